@@ -0,0 +1,62 @@
+package casetrack.app.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import casetrack.app.logic.commands.Command;
+import casetrack.app.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the parse latency of every command type, from the command text to the parsed command.
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> COMMANDS = Map.of(
+            "add", "add n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29, #06-40 i/3000"
+                    + " m/Asthma t/friends",
+            "edit", "edit patient 1 p/99272758 e/berniceyu@example.com",
+            "note", "note 1 t/Follow-up in 2 weeks about housing support",
+            "delete", "delete patient 1",
+            "search", "search name Alex Bernice",
+            "view", "view 1",
+            "list", "list");
+
+    @Param({"add", "edit", "note", "delete", "search", "view", "list"})
+    private String command;
+
+    private String commandText;
+    private AddressBookParser parser;
+
+    @Setup
+    public void setUp() {
+        commandText = COMMANDS.get(command);
+        parser = new AddressBookParser();
+    }
+
+    /**
+     * Parses the command text of the command type.
+     */
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
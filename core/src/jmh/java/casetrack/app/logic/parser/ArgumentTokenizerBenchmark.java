@@ -0,0 +1,79 @@
+package casetrack.app.logic.parser;
+
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_INCOME;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_MEDICAL_INFO;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_NAME;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_NOTE_TEXT;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_PHONE;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures tokenizing the arguments of a typical {@code add} command, of an {@code add} command with a long address,
+ * and of a {@code note} command with a long note. Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String NOTE_SENTENCE = "Home visit on 12/03: reviewed care plan, medication and housing"
+            + " support with the family. ";
+    private static final String ADDRESS_PART = "Blk 30 Geylang Street 29, #06-40, c/o Block 5/7 ";
+
+    @Param({"add", "address", "note"})
+    private String input;
+
+    private String arguments;
+    private Prefix[] prefixes;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+        case "add":
+            arguments = " n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29, #06-40"
+                    + " i/3000 m/Asthma t/friends t/elderly";
+            prefixes = new Prefix[] {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_INCOME,
+                PREFIX_MEDICAL_INFO, PREFIX_TAG};
+            break;
+        case "address":
+            arguments = " n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/" + ADDRESS_PART.repeat(10)
+                    + " i/3000 m/Asthma t/friends";
+            prefixes = new Prefix[] {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_INCOME,
+                PREFIX_MEDICAL_INFO, PREFIX_TAG};
+            break;
+        case "note":
+            arguments = " 1 t/" + NOTE_SENTENCE.repeat(20);
+            prefixes = new Prefix[] {PREFIX_NOTE_TEXT};
+            break;
+        default:
+            throw new IllegalArgumentException(input);
+        }
+    }
+
+    /**
+     * Tokenizes the arguments with the prefixes their command accepts.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, prefixes);
+    }
+}
@@ -0,0 +1,82 @@
+package casetrack.app.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Measures the retained heap size of {@code Person} objects as they would be loaded from a data file.
+ * <p>
+ * Every string is a distinct instance, as produced by the JSON parser, and values are
+ * created the way the JSON loader creates them. Run with {@code ./gradlew personFootprint}.
+ */
+public class PersonFootprint {
+
+    private static final int PATIENT_COUNT = 10_000;
+
+    private static final String[] STREETS = {"Clementi Ave 3", "Ang Mo Kio Ave 10", "Tampines St 81",
+        "Jurong West St 42", "Bedok North Rd", "Woodlands Dr 14"};
+    private static final String[] CONDITIONS = {"Diabetes", "Hypertension", "Asthma", "None", "Dementia"};
+    private static final String[] TAGS = {"elderly", "lowincome", "followup", "urgent", "family", "housing"};
+    private static final String[] INCOMES = {"0", "850", "1200.50", "2300", "3150.75", "4800"};
+
+    public static void main(String[] args) {
+        List<Person> persons = createPersons(new Random(2103), PATIENT_COUNT);
+        GraphLayout layout = GraphLayout.parseInstance(persons.toArray());
+
+        long total = layout.totalSize();
+        long strings = layout.getClassSizes().count(String.class) + layout.getClassSizes().count(byte[].class);
+
+        System.out.printf("Patients:                     %d%n", PATIENT_COUNT);
+        System.out.printf("Retained heap per patient:    %d bytes%n", total / PATIENT_COUNT);
+        System.out.printf("  of which string contents:   %d bytes%n", strings / PATIENT_COUNT);
+        System.out.printf("  of which object structure:  %d bytes%n", (total - strings) / PATIENT_COUNT);
+        System.out.println();
+        System.out.printf("%12s %12s  %s%n", "COUNT", "BYTES", "CLASS");
+        layout.getClasses().stream()
+                .sorted(Comparator.comparingLong(cls -> -layout.getClassSizes().count(cls)))
+                .forEach(cls -> System.out.printf("%12d %12d  %s%n", layout.getClassCounts().count(cls),
+                        layout.getClassSizes().count(cls), cls.getName()));
+    }
+
+    /**
+     * Returns {@code count} persons with a realistic spread of tags and notes.
+     */
+    public static List<Person> createPersons(Random random, int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int t = random.nextInt(4); t > 0; t--) {
+                tags.add(Tag.of(copy(pick(random, TAGS))));
+            }
+            List<Note> notes = new ArrayList<>();
+            for (int n = random.nextInt(5); n > 0; n--) {
+                notes.add(new Note("Home visit " + random.nextInt(1000) + ": reviewed care plan and medication"));
+            }
+            persons.add(new Person(new Name("Patient " + i), new Phone(String.valueOf(90000000 + i)),
+                    new Email("patient" + i + "@example.com"),
+                    Address.of("Blk " + random.nextInt(900) + " " + pick(random, STREETS)),
+                    new Income(copy(pick(random, INCOMES))), MedicalInfo.of(copy(pick(random, CONDITIONS))),
+                    tags, notes));
+        }
+        return persons;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns a distinct copy of {@code value}, as a JSON parser would.
+     */
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+}
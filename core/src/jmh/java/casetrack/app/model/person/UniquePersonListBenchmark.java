@@ -0,0 +1,87 @@
+package casetrack.app.model.person;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the person list operations behind the edit and delete commands, which locate persons with
+ * {@code Person#equals} and check for duplicates with {@code Person#isSamePerson}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private Person last;
+    private Person lastCopy;
+    private Person lastEdited;
+
+    @Setup
+    public void setUp() {
+        List<Person> generated = PersonFootprint.createPersons(new Random(2103), size);
+        persons = new UniquePersonList();
+        persons.setPersons(generated);
+        last = generated.get(size - 1);
+        lastCopy = new Person(new Name(last.getName().fullName), new Phone(last.getPhone().value),
+                new Email(last.getEmail().value), new Address(last.getAddress().value),
+                new Income(last.getIncome().toPlainString()), new MedicalInfo(last.getMedicalInfo().medicalInfo),
+                last.getTags(), last.getNotes());
+        lastEdited = new Person(last.getName(), last.getPhone(), new Email("edited@example.com"),
+                last.getAddress(), last.getIncome(), last.getMedicalInfo(), last.getTags(), last.getNotes());
+    }
+
+    /**
+     * Locates a person by equality, as done when the person list looks up an edited or deleted person.
+     */
+    @Benchmark
+    public int indexOfEqualPerson() {
+        return persons.asUnmodifiableObservableList().indexOf(lastCopy);
+    }
+
+    /**
+     * Edits the last person and restores it.
+     */
+    @Benchmark
+    public void editPerson() {
+        persons.setPerson(last, lastEdited);
+        persons.setPerson(lastEdited, last);
+    }
+
+    /**
+     * Deletes the last person and adds it back, which checks the whole list for duplicates.
+     */
+    @Benchmark
+    public void deleteAndAddPerson() {
+        persons.remove(lastCopy);
+        persons.add(last);
+    }
+
+    /**
+     * Takes the immutable copy of the persons that is published to readers after every command.
+     */
+    @Benchmark
+    public List<Person> snapshot() {
+        return persons.getSnapshot();
+    }
+}
@@ -0,0 +1,86 @@
+package casetrack.app.model.person;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Compares the validators of the value classes against matching their {@code VALIDATION_REGEX} with
+ * {@code String#matches}, over the fields of 10,000 patients as validated when loading the data file.
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final int PATIENT_COUNT = 10_000;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = PersonFootprint.createPersons(new Random(2103), PATIENT_COUNT);
+    }
+
+    /**
+     * Validates every field by matching its {@code VALIDATION_REGEX}.
+     */
+    @Benchmark
+    public int regexMatches() {
+        int valid = 0;
+        for (Person person : persons) {
+            valid += person.getName().fullName.matches(Name.VALIDATION_REGEX)
+                    && person.getName().fullName.matches(Name.AT_LEAST_ONE_ALPHABET) ? 1 : 0;
+            valid += person.getPhone().value.matches(Phone.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getEmail().value.matches(Email.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getAddress().value.matches(Address.VALIDATION_REGEX) ? 1 : 0;
+            valid += person.getMedicalInfo().medicalInfo.matches(MedicalInfo.VALIDATION_REGEX) ? 1 : 0;
+            for (Tag tag : person.getTags()) {
+                valid += tag.tagName.matches(Tag.VALIDATION_REGEX) ? 1 : 0;
+            }
+            for (Note note : person.getNotes()) {
+                valid += note.value.matches(Note.VALIDATION_REGEX) ? 1 : 0;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Validates every field with the validator of its value class.
+     */
+    @Benchmark
+    public int validators() {
+        int valid = 0;
+        for (Person person : persons) {
+            valid += Name.isValidName(person.getName().fullName) ? 1 : 0;
+            valid += Phone.isValidPhone(person.getPhone().value) ? 1 : 0;
+            valid += Email.isValidEmail(person.getEmail().value) ? 1 : 0;
+            valid += Address.isValidAddress(person.getAddress().value) ? 1 : 0;
+            valid += MedicalInfo.isValidMedicalInfo(person.getMedicalInfo().medicalInfo) ? 1 : 0;
+            for (Tag tag : person.getTags()) {
+                valid += Tag.isValidTagName(tag.tagName) ? 1 : 0;
+            }
+            for (Note note : person.getNotes()) {
+                valid += Note.isValidNote(note.value) ? 1 : 0;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,97 @@
+package casetrack.app.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.PersonFootprint;
+
+/**
+ * Compares the time taken to load and save the address book in the JSON, gzip-compressed JSON and binary data file
+ * formats.
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddressBookStorageBenchmark {
+
+    @Param({"json", "gzip", "binary"})
+    private String format;
+
+    @Param({"10000"})
+    private int size;
+
+    private Path folder;
+    private AddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("casetrack-benchmark");
+        switch (format) {
+        case "binary":
+            storage = new BinaryAddressBookStorage(folder.resolve("casetrack.bin"));
+            break;
+        case "gzip":
+            storage = new JsonAddressBookStorage(folder.resolve("casetrack.json.gz"));
+            break;
+        default:
+            storage = new JsonAddressBookStorage(folder.resolve("casetrack.json"));
+        }
+        addressBook = new AddressBook();
+        addressBook.setPersons(PersonFootprint.createPersons(new Random(2103), size));
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data files written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Reads and validates the whole data file, as done at startup.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    /**
+     * Writes the whole data file.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,127 @@
+package casetrack.app;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.Config;
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.ConfigUtil;
+import casetrack.app.commons.util.StringUtil;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.storage.AddressBookStorage;
+import casetrack.app.storage.BinaryAddressBookStorage;
+import casetrack.app.storage.JournaledAddressBookStorage;
+import casetrack.app.storage.ShardedAddressBookStorage;
+import casetrack.app.storage.UserPrefsStorage;
+
+/**
+ * Reads the configuration and preferences, and creates the storage of the application.
+ * Shared by the GUI in the {@code ui} module and the command line in {@link HeadlessApp}, so it must not use JavaFX.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file at {@code filePath}.
+     * Data files with the {@value BinaryAddressBookStorage#FILE_EXTENSION} extension are stored in binary form, and
+     * data directories with the {@value ShardedAddressBookStorage#DIRECTORY_EXTENSION} extension are stored in
+     * shards. Both are created from the JSON data file of the same name if they do not exist yet. Other data files
+     * are stored as JSON with a journal.
+     */
+    public static AddressBookStorage initAddressBookStorage(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            return new BinaryAddressBookStorage(filePath,
+                    legacyStorage(filePath, BinaryAddressBookStorage.FILE_EXTENSION));
+        }
+        if (fileName.endsWith(ShardedAddressBookStorage.DIRECTORY_EXTENSION)) {
+            return new ShardedAddressBookStorage(filePath,
+                    legacyStorage(filePath, ShardedAddressBookStorage.DIRECTORY_EXTENSION));
+        }
+        return new JournaledAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns the storage for the JSON data file with the same name as {@code filePath}, which has {@code extension}.
+     */
+    private static AddressBookStorage legacyStorage(Path filePath, String extension) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.substring(0, fileName.length() - extension.length());
+        return new JournaledAddressBookStorage(filePath.resolveSibling(baseName + ".json"));
+    }
+}
@@ -9,15 +9,17 @@ import java.util.logging.Logger;
 import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.commons.util.FileUtil;
 import casetrack.app.commons.util.ToStringBuilder;
-import javafx.application.Application;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MIN_PORT = 1;
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -28,11 +30,22 @@ public class AppParameters {
     }
 
     /**
-     * Parses the application command-line parameters.
+     * Returns the port to serve the HTTP API on, or null if the API should not be served.
      */
-    public static AppParameters parse(Application.Parameters parameters) {
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Parses the named command-line parameters given to the application, e.g. {@code config} for
+     * {@code --config=config.json} and {@code api-port} for {@code --api-port=8080}.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +54,25 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". The API will not be served.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        try {
+            int value = Integer.parseInt(port);
+            return value >= MIN_PORT && value <= MAX_PORT;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +85,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
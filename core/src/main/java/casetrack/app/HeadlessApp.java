@@ -0,0 +1,204 @@
+package casetrack.app;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import casetrack.app.api.ApiServer;
+import casetrack.app.commons.core.Config;
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.logic.Logic;
+import casetrack.app.logic.LogicManager;
+import casetrack.app.logic.commands.BatchCommand;
+import casetrack.app.logic.commands.CommandResult;
+import casetrack.app.logic.commands.exceptions.CommandException;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.storage.JsonUserPrefsStorage;
+import casetrack.app.storage.StorageManager;
+import casetrack.app.storage.UserPrefsStorage;
+import casetrack.app.storage.WriteBehindStorage;
+
+/**
+ * Runs the application without JavaFX, for scripted jobs and machines without a display.
+ * <p>
+ * Commands are read one per line from a file, or from the standard input if no file is given, and are executed as if
+ * they had been entered in the GUI. Blank lines and lines starting with {@value BatchCommand#COMMENT_MARKER} are
+ * skipped. The result of every command is printed to the standard output and every error to the standard error. The
+ * exit status is {@value #EXIT_SUCCESS} if all commands succeeded, and {@value #EXIT_FAILURE} otherwise.
+ */
+public class HeadlessApp {
+
+    /** The command-line option that selects this application instead of the GUI. */
+    public static final String HEADLESS_OPTION = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    public static final String MESSAGE_LOADING_FAILED = "Patient data in %s could not be loaded: %s";
+    public static final String MESSAGE_READ_FAILED = "Could not read commands: %s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save patient data: %s";
+    public static final String MESSAGE_API_FAILED = "Could not serve the API on port %d: %s";
+
+    private static final String PROMPT = "> ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, and prints results to {@code out} and
+     * errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes the commands read from {@code in} until its end, or until a command exits the application. A prompt
+     * is printed before every command if {@code isInteractive} is true.
+     *
+     * @return {@link #EXIT_SUCCESS} if all commands succeeded, or {@link #EXIT_FAILURE} otherwise.
+     * @throws IOException if {@code in} could not be read.
+     */
+    public int run(BufferedReader in, boolean isInteractive) throws IOException {
+        requireNonNull(in);
+        int failures = 0;
+        while (true) {
+            if (isInteractive) {
+                out.print(PROMPT);
+                out.flush();
+            }
+            String line = in.readLine();
+            if (line == null) {
+                break;
+            }
+
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(BatchCommand.COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                failures++;
+            }
+        }
+        return failures == 0 ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Executes the commands given by {@code args} as {@link #launch(String[])} does, and exits with its exit status.
+     */
+    public static void main(String[] args) {
+        System.exit(launch(args));
+    }
+
+    /**
+     * Sets up the storage, model and logic as configured by {@code args}, and executes the commands in the file named
+     * by the first argument that is not an option, or in the standard input if there is none. If an API port is
+     * given, the API is served until the commands end.
+     *
+     * @return the exit status of the application.
+     */
+    public static int launch(String[] args) {
+        // Only warnings are logged to the console, so that they do not mix with the results of the commands
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        logger.info("=============================[ Starting headless CaseTrack ]===========================");
+
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> commandFiles = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator != -1) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else if (!arg.equals(HEADLESS_OPTION)) {
+                commandFiles.add(arg);
+            }
+        }
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                AppInitializer.initAddressBookStorage(userPrefs.getAddressBookFilePath()), userPrefsStorage));
+
+        // Unlike the GUI, a missing data file is not filled with sample data, and unreadable data is not replaced
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            System.err.println(String.format(MESSAGE_LOADING_FAILED, storage.getAddressBookFilePath(),
+                    e.getMessage()));
+            return EXIT_FAILURE;
+        }
+
+        Logic logic = new LogicManager(new ModelManager(addressBook, userPrefs), storage);
+        logic.setSaveFailureHandler(System.err::println);
+        HeadlessApp app = new HeadlessApp(logic, System.out, System.err);
+
+        // Commands from the API are executed on the threads handling the requests, one at a time
+        ApiServer apiServer = null;
+        if (appParameters.getApiPort() != null) {
+            String token = ApiServer.generateToken();
+            try {
+                ApiServer.writeTokenFile(ApiServer.getTokenFile(storage.getAddressBookFilePath()), token);
+                apiServer = new ApiServer(logic, Runnable::run, appParameters.getApiPort(), token);
+            } catch (IOException e) {
+                System.err.println(String.format(MESSAGE_API_FAILED, appParameters.getApiPort(), e.getMessage()));
+                return EXIT_FAILURE;
+            }
+            apiServer.start();
+        }
+
+        int exitStatus;
+        try (BufferedReader in = commandFiles.isEmpty()
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : Files.newBufferedReader(Paths.get(commandFiles.get(0)))) {
+            exitStatus = app.run(in, commandFiles.isEmpty() && System.console() != null);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_READ_FAILED, e));
+            exitStatus = EXIT_FAILURE;
+        }
+
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_SAVE_FAILED, e));
+            exitStatus = EXIT_FAILURE;
+        }
+        return exitStatus;
+    }
+}
@@ -0,0 +1,382 @@
+package casetrack.app.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.commons.util.StringUtil;
+import casetrack.app.logic.Logic;
+import casetrack.app.logic.Messages;
+import casetrack.app.logic.commands.CommandResult;
+import casetrack.app.logic.commands.exceptions.CommandException;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+
+/**
+ * Serves a JSON API over HTTP on the loopback interface, so that other tools on the same machine can use the address
+ * book while the application is running.
+ * <ul>
+ * <li>{@code GET /api/patients} lists all patients, or with {@code ?name=KEYWORDS} the patients whose name contains
+ * any of the keywords.</li>
+ * <li>{@code GET /api/patients/INDEX} shows the patient at the one-based {@code INDEX} of the address book.</li>
+ * <li>{@code POST /api/commands} executes the command in the request body, as if it had been entered by the user
+ * after {@code list}, so that patient indices refer to the address book as returned by the requests above.</li>
+ * </ul>
+ * Every request must carry the token of the server in an {@code Authorization: Bearer TOKEN} header. The token is
+ * generated for each launch by {@link #generateToken()} and written to a file that only the user can read, so that
+ * only programs run by the user can use the API. Requests from web pages, which carry an {@code Origin} header, and
+ * requests addressed to a host name other than the loopback interface, as sent after a DNS rebinding, are refused.
+ * <p>
+ * Every request is handled on a thread of its own. Reads use {@link Logic#readAddressBook}, so they see the address
+ * book as left by the last completed command, run in parallel without waiting for commands, and do not change the
+ * filtered list. Commands are handed to the {@code commandExecutor}, and are executed one at a time by {@code Logic}.
+ */
+public class ApiServer {
+
+    public static final String PATIENTS_PATH = "/api/patients";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final String MESSAGE_NOT_FOUND = "Not found: %s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method %s is not allowed for %s";
+    public static final String MESSAGE_INVALID_INDEX = "The patient index must be a positive integer: %s";
+    public static final String MESSAGE_EMPTY_COMMAND = "The request body must hold a command";
+    public static final String MESSAGE_INTERNAL_ERROR = "Internal error: %s";
+    public static final String MESSAGE_UNAUTHORIZED = "A valid API token is required";
+    public static final String MESSAGE_ORIGIN_NOT_ALLOWED = "Requests from web pages are not allowed";
+    public static final String MESSAGE_HOST_NOT_ALLOWED = "Requests to host %s are not allowed";
+
+    public static final String TOKEN_FILE_NAME = "api-token";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String NAME_PARAMETER = "name";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int TOKEN_BYTES = 32;
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+
+    /**
+     * Creates an {@code ApiServer} that serves the address book of {@code logic} on {@code port} of the loopback
+     * interface, or on any free port if {@code port} is 0, to requests that carry {@code token}. Commands are executed
+     * on {@code commandExecutor}, e.g. on the thread that owns the model. The server only accepts requests once it is
+     * started.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor commandExecutor, int port, String token) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(commandExecutor);
+        requireNonNull(token);
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATIENTS_PATH, exchange -> handle(exchange, this::handlePatients));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, this::handleCommands));
+        server.createContext("/", exchange -> handle(exchange, e ->
+                sendError(e, HttpURLConnection.HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, e.getRequestURI()))));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        requestExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Returns a new random token that cannot be guessed.
+     */
+    public static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Returns the file that the token is written to when serving the address book stored at
+     * {@code addressBookFilePath}, which is next to the data.
+     */
+    public static Path getTokenFile(Path addressBookFilePath) {
+        return addressBookFilePath.toAbsolutePath().resolveSibling(TOKEN_FILE_NAME);
+    }
+
+    /**
+     * Writes {@code token} to {@code file}, replacing any earlier token, so that only the owner of the file can read
+     * it. On file systems without POSIX permissions, the file is made readable by its owner only as far as supported.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeTokenFile(Path file, String token) throws IOException {
+        requireNonNull(file);
+        requireNonNull(token);
+        FileUtil.createParentDirsOfFile(file);
+        Files.deleteIfExists(file);
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(file);
+            File ioFile = file.toFile();
+            ioFile.setReadable(false, false);
+            ioFile.setReadable(true, true);
+            ioFile.setWritable(false, false);
+            ioFile.setWritable(true, true);
+        }
+        FileUtil.writeToFile(file, token);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API at " + getAddress());
+    }
+
+    /**
+     * Stops accepting requests, and stops the server once the requests being handled have been answered.
+     */
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdown();
+        logger.info("Stopped serving the API");
+    }
+
+    /**
+     * Returns the address that the server is bound to.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private void handle(HttpExchange exchange, HttpHandler handler) {
+        try (exchange) {
+            try {
+                if (isAllowed(exchange)) {
+                    handler.handle(exchange);
+                }
+            } catch (RuntimeException e) {
+                logger.warning("Unexpected error while handling " + exchange.getRequestURI() + ": "
+                        + StringUtil.getDetails(e));
+                sendError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR,
+                        String.format(MESSAGE_INTERNAL_ERROR, e.getMessage()));
+            }
+        } catch (IOException e) {
+            logger.fine("Could not answer " + exchange.getRequestURI() + ": " + e);
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} comes from a program run by the user. Otherwise, answers it with an error and
+     * returns false.
+     */
+    private boolean isAllowed(HttpExchange exchange) throws IOException {
+        Headers headers = exchange.getRequestHeaders();
+        if (headers.containsKey("Origin")) {
+            sendError(exchange, HttpURLConnection.HTTP_FORBIDDEN, MESSAGE_ORIGIN_NOT_ALLOWED);
+            return false;
+        }
+        String host = headers.getFirst("Host");
+        if (host == null || !isLoopbackHost(host)) {
+            sendError(exchange, HttpURLConnection.HTTP_FORBIDDEN, String.format(MESSAGE_HOST_NOT_ALLOWED, host));
+            return false;
+        }
+        String authorization = headers.getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX) || !MessageDigest.isEqual(token,
+                authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8))) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            sendError(exchange, HttpURLConnection.HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the value of a {@code Host} header names the loopback interface, with or without a port.
+     */
+    static boolean isLoopbackHost(String host) {
+        int portSeparator = host.lastIndexOf(':');
+        String hostName = portSeparator > host.lastIndexOf(']') ? host.substring(0, portSeparator) : host;
+        return LOOPBACK_HOSTS.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    private void handlePatients(HttpExchange exchange) throws IOException {
+        if (!isMethod(exchange, GET)) {
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String index = path.substring(PATIENTS_PATH.length());
+        if (index.isEmpty() || index.equals("/")) {
+            String keywords = parseQuery(exchange.getRequestURI().getRawQuery()).get(NAME_PARAMETER);
+            sendJson(exchange, HttpURLConnection.HTTP_OK, findPersons(keywords));
+        } else if (index.startsWith("/") && StringUtil.isNonZeroUnsignedInteger(index.substring(1))) {
+            viewPerson(exchange, Integer.parseInt(index.substring(1)));
+        } else if (index.startsWith("/")) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST,
+                    String.format(MESSAGE_INVALID_INDEX, index.substring(1)));
+        } else {
+            sendError(exchange, HttpURLConnection.HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+    }
+
+    private List<JsonApiPerson> findPersons(String keywords) {
+        Predicate<Person> predicate = keywords == null || keywords.isBlank()
+                ? person -> true
+                : new NameContainsKeywordsPredicate(Arrays.asList(keywords.trim().split("\\s+")));
+        return logic.readAddressBook(addressBook -> {
+            List<Person> persons = addressBook.getPersonList();
+            List<JsonApiPerson> matches = new ArrayList<>();
+            for (int i = 0; i < persons.size(); i++) {
+                if (predicate.test(persons.get(i))) {
+                    matches.add(new JsonApiPerson(i + 1, persons.get(i)));
+                }
+            }
+            return matches;
+        });
+    }
+
+    private void viewPerson(HttpExchange exchange, int index) throws IOException {
+        JsonApiPerson person = logic.readAddressBook(addressBook -> {
+            List<Person> persons = addressBook.getPersonList();
+            return index <= persons.size() ? new JsonApiPerson(index, persons.get(index - 1)) : null;
+        });
+        if (person == null) {
+            sendError(exchange, HttpURLConnection.HTTP_NOT_FOUND, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        } else {
+            sendJson(exchange, HttpURLConnection.HTTP_OK, person);
+        }
+    }
+
+    private void handleCommands(HttpExchange exchange) throws IOException {
+        if (!isMethod(exchange, POST)) {
+            return;
+        }
+        if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+            sendError(exchange, HttpURLConnection.HTTP_NOT_FOUND,
+                    String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+            return;
+        }
+
+        String commandText;
+        try (InputStream body = exchange.getRequestBody()) {
+            commandText = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        if (commandText.isEmpty()) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+            return;
+        }
+
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(logic.executeOnAllPersons(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            sendJson(exchange, HttpURLConnection.HTTP_OK, Map.of("feedback", result.get().getFeedbackToUser()));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, HttpURLConnection.HTTP_UNAVAILABLE, String.format(MESSAGE_INTERNAL_ERROR, e));
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} uses {@code method}. Otherwise, answers it with an error and returns false.
+     */
+    private static boolean isMethod(HttpExchange exchange, String method) throws IOException {
+        if (exchange.getRequestMethod().equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        sendError(exchange, HttpURLConnection.HTTP_BAD_METHOD, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+        return false;
+    }
+
+    /**
+     * Returns the parameters of the URL-encoded {@code query}. Only the first value of each parameter is kept.
+     */
+    static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            String name = separator == -1 ? parameter : parameter.substring(0, separator);
+            String value = separator == -1 ? "" : parameter.substring(separator + 1);
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of("error", message));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonLine(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
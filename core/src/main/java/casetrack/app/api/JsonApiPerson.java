@@ -0,0 +1,43 @@
+package casetrack.app.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link Person} as returned by the {@link ApiServer}, together with the index of the
+ * person in the address book.
+ */
+class JsonApiPerson {
+
+    private final int index;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String income;
+    private final String medicalInfo;
+    private final List<String> tags;
+    private final List<String> notes;
+
+    /**
+     * Converts {@code source}, the person at the one-based {@code index} of the address book, for Jackson use.
+     */
+    public JsonApiPerson(int index, Person source) {
+        this.index = index;
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        income = source.getIncome().getValue().toPlainString();
+        medicalInfo = source.getMedicalInfo().toString();
+        tags = source.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        notes = source.getNotes().stream()
+                .map(note -> note.value)
+                .collect(Collectors.toList());
+    }
+}
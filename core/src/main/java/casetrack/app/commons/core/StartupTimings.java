@@ -0,0 +1,64 @@
+package casetrack.app.commons.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Records how long each phase of the application startup took.
+ * <p>
+ * Phases are timed with {@link System#nanoTime()} by the threads that run them, and are kept in the order in which
+ * they finished. Every recorded phase is also logged.
+ */
+public class StartupTimings {
+
+    private static final StartupTimings INSTANCE = new StartupTimings();
+    private static final Logger logger = LogsCenter.getLogger(StartupTimings.class);
+
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+    /**
+     * Returns the timings of the startup of this application.
+     */
+    public static StartupTimings getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records that the phase named {@code phase}, which started at {@code phaseStart} as given by
+     * {@link System#nanoTime()}, has just finished. A phase that is recorded again replaces the earlier timing.
+     */
+    public void record(String phase, long phaseStart) {
+        long elapsed = System.nanoTime() - phaseStart;
+        synchronized (this) {
+            phaseNanos.put(phase, elapsed);
+        }
+        logger.info(String.format("Startup phase '%s' took %s", phase, formatMillis(elapsed)));
+    }
+
+    /**
+     * Returns the duration in nanoseconds of every recorded phase, in the order in which the phases finished.
+     */
+    public synchronized Map<String, Long> getPhaseNanos() {
+        return new LinkedHashMap<>(phaseNanos);
+    }
+
+    /**
+     * Returns one line per recorded phase with its duration in milliseconds, or an empty string if no phase has
+     * been recorded.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Long> phase : getPhaseNanos().entrySet()) {
+            if (builder.length() > 0) {
+                builder.append('\n');
+            }
+            builder.append(phase.getKey()).append(": ").append(formatMillis(phase.getValue()));
+        }
+        return builder.toString();
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+}
@@ -1,23 +1,10 @@
 package casetrack.app.commons.util;
 
-import static java.util.Objects.requireNonNull;
-
-import casetrack.app.MainApp;
-import javafx.scene.image.Image;
-
 /**
  * A container for App specific utility functions
  */
 public class AppUtil {
 
-    /**
-     * Gets an {@code Image} from the specified path.
-     */
-    public static Image getImage(String imagePath) {
-        requireNonNull(imagePath);
-        return new Image(MainApp.class.getResourceAsStream(imagePath));
-    }
-
     /**
      * Checks that {@code condition} is true. Used for validating arguments to methods.
      *
@@ -0,0 +1,44 @@
+package casetrack.app.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type.
+ * <p>
+ * {@link #intern(Object)} returns a single shared instance for all equal values, so that values repeated across
+ * many persons (e.g. tags) occupy memory only once and can be compared by reference. The pool only holds weak
+ * references, so a canonical instance is discarded once no person refers to it any more.
+ *
+ * @param <T> the type of values in the pool, which must be immutable and implement {@code equals} and
+ *     {@code hashCode}
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance that is equal to {@code value}, adding {@code value} to the pool as the
+     * canonical instance if there is none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances currently in the pool.
+     */
+    synchronized int size() {
+        return pool.size();
+    }
+}
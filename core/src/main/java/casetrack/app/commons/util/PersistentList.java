@@ -0,0 +1,334 @@
+package casetrack.app.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that supports O(log n) updates through structural sharing.
+ * <p>
+ * Elements are stored in small arrays ("chunks") of at most {@value #MAX_CHUNK_SIZE} elements, which are kept in
+ * a height-balanced binary tree ordered by position. Short lists therefore occupy a single array, like an
+ * {@code ArrayList} without spare capacity, while long lists stay cheap to update. Methods such as
+ * {@link #plus(Object)}, {@link #minus(int)} and {@link #with(int, Object)} return a new list that shares all
+ * untouched chunks and subtrees with this list, so only one chunk and the O(log n) nodes along the path to it are
+ * copied. The mutators inherited from {@link java.util.List} throw {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    static final int MAX_CHUNK_SIZE = 32;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node root;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the elements of {@code elements} in iteration order.
+     * Returns {@code elements} itself if it is already a {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        Object[] array = elements.toArray();
+        int chunkCount = (array.length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+        return new PersistentList<>(build(array, 0, chunkCount));
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index - leftSize < node.chunk.length) {
+                return (E) node.chunk[index - leftSize];
+            } else {
+                index -= leftSize + node.chunk.length;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a new list with {@code element} appended to the end of this list.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a new list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        if (root == null) {
+            return new PersistentList<>(new Node(new Object[] {element}, null, null));
+        }
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a new list with the element at {@code index} removed.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns a new list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    //// tree operations
+
+    /**
+     * Builds a balanced tree holding chunks {@code [fromChunk, toChunk)} of {@code elements}.
+     */
+    private static Node build(Object[] elements, int fromChunk, int toChunk) {
+        if (fromChunk >= toChunk) {
+            return null;
+        }
+        int mid = (fromChunk + toChunk) >>> 1;
+        int from = mid * MAX_CHUNK_SIZE;
+        Object[] chunk = Arrays.copyOfRange(elements, from, Math.min(from + MAX_CHUNK_SIZE, elements.length));
+        return new Node(chunk, build(elements, fromChunk, mid), build(elements, mid + 1, toChunk));
+    }
+
+    private static Node insert(Node node, int index, Object element) {
+        int leftSize = sizeOf(node.left);
+        int offset = index - leftSize;
+        if (offset < 0) {
+            return balance(node.chunk, insert(node.left, index, element), node.right);
+        }
+        if (offset > node.chunk.length) {
+            return balance(node.chunk, node.left, insert(node.right, offset - node.chunk.length, element));
+        }
+
+        Object[] chunk = new Object[node.chunk.length + 1];
+        System.arraycopy(node.chunk, 0, chunk, 0, offset);
+        chunk[offset] = element;
+        System.arraycopy(node.chunk, offset, chunk, offset + 1, node.chunk.length - offset);
+        if (chunk.length <= MAX_CHUNK_SIZE) {
+            return new Node(chunk, node.left, node.right);
+        }
+
+        // Split the full chunk and move its upper half to the front of the right subtree
+        int half = chunk.length / 2;
+        Object[] upperHalf = Arrays.copyOfRange(chunk, half, chunk.length);
+        return balance(Arrays.copyOf(chunk, half), node.left, insertFirst(node.right, upperHalf));
+    }
+
+    private static Node insertFirst(Node node, Object[] chunk) {
+        if (node == null) {
+            return new Node(chunk, null, null);
+        }
+        return balance(node.chunk, insertFirst(node.left, chunk), node.right);
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        int offset = index - leftSize;
+        if (offset < 0) {
+            return balance(node.chunk, remove(node.left, index), node.right);
+        }
+        if (offset >= node.chunk.length) {
+            return balance(node.chunk, node.left, remove(node.right, offset - node.chunk.length));
+        }
+
+        if (node.chunk.length > 1) {
+            Object[] chunk = new Object[node.chunk.length - 1];
+            System.arraycopy(node.chunk, 0, chunk, 0, offset);
+            System.arraycopy(node.chunk, offset + 1, chunk, offset, chunk.length - offset);
+            return new Node(chunk, node.left, node.right);
+        }
+
+        // The chunk becomes empty, so the node itself is removed
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        return balance(firstChunk(node.right), node.left, removeFirst(node.right));
+    }
+
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.chunk, removeFirst(node.left), node.right);
+    }
+
+    private static Object[] firstChunk(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.chunk;
+    }
+
+    private static Node replace(Node node, int index, Object element) {
+        int leftSize = sizeOf(node.left);
+        int offset = index - leftSize;
+        if (offset < 0) {
+            return new Node(node.chunk, replace(node.left, index, element), node.right);
+        }
+        if (offset >= node.chunk.length) {
+            return new Node(node.chunk, node.left, replace(node.right, offset - node.chunk.length, element));
+        }
+        Object[] chunk = node.chunk.clone();
+        chunk[offset] = element;
+        return new Node(chunk, node.left, node.right);
+    }
+
+    /**
+     * Returns a node holding {@code chunk} with the given subtrees, rotating if their heights differ by more than one.
+     * The subtrees must have been balanced before the single insertion or removal that produced them.
+     */
+    private static Node balance(Object[] chunk, Node left, Node right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.chunk, left.left, new Node(chunk, left.right, right));
+            }
+            Node pivot = left.right;
+            return new Node(pivot.chunk, new Node(left.chunk, left.left, pivot.left),
+                    new Node(chunk, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(right.chunk, new Node(chunk, left, right.left), right.right);
+            }
+            Node pivot = right.left;
+            return new Node(pivot.chunk, new Node(chunk, left, pivot.left),
+                    new Node(right.chunk, pivot.right, right.right));
+        }
+        return new Node(chunk, left, right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    /**
+     * An immutable tree node holding a non-empty chunk of elements. Nodes and chunks may be shared between lists.
+     */
+    private static final class Node {
+        private final Object[] chunk;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(Object[] chunk, Node left, Node right) {
+            this.chunk = chunk;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + chunk.length + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in positional order.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node> path = new ArrayDeque<>();
+        private Object[] chunk;
+        private int offset;
+
+        InOrderIterator(Node root) {
+            pushLeftSpine(root);
+            advanceChunk();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return chunk != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (chunk == null) {
+                throw new NoSuchElementException();
+            }
+            E element = (E) chunk[offset++];
+            if (offset == chunk.length) {
+                advanceChunk();
+            }
+            return element;
+        }
+
+        private void advanceChunk() {
+            if (path.isEmpty()) {
+                chunk = null;
+                return;
+            }
+            Node node = path.pop();
+            pushLeftSpine(node.right);
+            chunk = node.chunk;
+            offset = 0;
+        }
+
+        private void pushLeftSpine(Node node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
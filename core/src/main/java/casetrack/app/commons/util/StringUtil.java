@@ -65,4 +65,34 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, i.e. matches {@code \p{Alnum}} in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as matched by {@code \s} in a regex,
+     * i.e. one of {@code [ \t\n\x0B\f\r]}.
+     */
+    public static boolean isAsciiWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code s} contains no line terminator from index {@code fromIndex} onwards, i.e. if that part
+     * of {@code s} is matched by {@code .*} in a regex.
+     */
+    public static boolean isSingleLine(String s, int fromIndex) {
+        requireNonNull(s);
+        for (int i = fromIndex; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,6 +1,8 @@
 package casetrack.app.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.logic.commands.CommandResult;
@@ -23,6 +25,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute}, but with patient indices that refer to the full list of persons,
+     * as given by {@link #readAddressBook}, instead of the filtered list. The filtered list shows all persons before
+     * the command is executed.
+     */
+    CommandResult executeOnAllPersons(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Sets the handler that is given an error message whenever data could not be saved after the command that
+     * changed it had already returned. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,6 +45,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the result of applying {@code reader} to an immutable version of the AddressBook, as left by the last
+     * command that completed, without changing the filtered list. Unlike the other methods, this may be called from
+     * any thread. Readers neither wait for nor hold up commands, and {@code reader} may keep the AddressBook.
+     */
+    <T> T readAddressBook(Function<? super ReadOnlyAddressBook, ? extends T> reader);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -0,0 +1,178 @@
+package casetrack.app.logic;
+
+import static casetrack.app.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.GuiSettings;
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.logic.commands.Command;
+import casetrack.app.logic.commands.CommandResult;
+import casetrack.app.logic.commands.exceptions.CommandException;
+import casetrack.app.logic.parser.AddressBookParser;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.Model;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+import casetrack.app.storage.Storage;
+import javafx.collections.ObservableList;
+
+/**
+ * The main LogicManager of the app.
+ */
+public class LogicManager implements Logic {
+    public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
+
+    public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
+            "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
+
+    private static final long UNSAVED_VERSION = -1;
+
+    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final AddressBookParser addressBookParser;
+
+    // Version of the address book passed to the last save that has not failed, written by the thread that reports a
+    // background save failure too. The initial data may not be in storage yet (e.g. sample data), so the first
+    // command always saves.
+    private volatile long savedAddressBookVersion = UNSAVED_VERSION;
+    private volatile Consumer<String> saveFailureHandler;
+    private volatile IOException unreportedSaveFailure;
+
+    // Commands are executed one at a time. Readers do not take this lock, as they read the committed address book.
+    private final Lock commandLock = new ReentrantLock();
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     */
+    public LogicManager(Model model, Storage storage) {
+        this.model = model;
+        this.storage = storage;
+        addressBookParser = new AddressBookParser();
+        storage.setSaveFailureHandler(this::handleSaveFailure);
+    }
+
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        // Parsing does not use the model, so it does not hold up other commands
+        Command command = addressBookParser.parseCommand(commandText);
+        commandLock.lock();
+        try {
+            return executeLocked(command);
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    @Override
+    public CommandResult executeOnAllPersons(String commandText) throws CommandException, ParseException {
+        logger.info("----------------[USER COMMAND ON ALL PERSONS][" + commandText + "]");
+
+        Command command = addressBookParser.parseCommand(commandText);
+        commandLock.lock();
+        try {
+            // Reset in the lock, so that no other command can filter the list before this one runs
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return executeLocked(command);
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    private CommandResult executeLocked(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+        model.commitAddressBook();
+
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
+        // Set before saving, so that a background failure of this save, reported at any time, resets it
+        savedAddressBookVersion = version;
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+        } catch (IOException ioe) {
+            savedAddressBookVersion = UNSAVED_VERSION;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+
+        IOException failure = unreportedSaveFailure;
+        if (failure != null) {
+            unreportedSaveFailure = null;
+            throw new CommandException(getSaveErrorMessage(failure), failure);
+        }
+        return commandResult;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Handles a save that failed after its command had returned. The address book is saved again by the next command,
+     * even if that command does not change it. The failure is passed to the save failure handler, or, if there is
+     * none, thrown from the next command.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        savedAddressBookVersion = UNSAVED_VERSION;
+        Consumer<String> handler = saveFailureHandler;
+        if (handler == null) {
+            unreportedSaveFailure = ioe;
+        } else {
+            handler.accept(getSaveErrorMessage(ioe));
+        }
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return model.getAddressBook();
+    }
+
+    @Override
+    public <T> T readAddressBook(Function<? super ReadOnlyAddressBook, ? extends T> reader) {
+        requireNonNull(reader);
+        return reader.apply(model.getCommittedAddressBook());
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return model.getFilteredPersonList();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return model.getAddressBookFilePath();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return model.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        model.setGuiSettings(guiSettings);
+    }
+}
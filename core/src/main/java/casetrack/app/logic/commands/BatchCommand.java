@@ -0,0 +1,139 @@
+package casetrack.app.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.logic.commands.exceptions.CommandException;
+import casetrack.app.logic.parser.AddressBookParser;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.Model;
+
+/**
+ * Runs the commands in a text file as a single command.
+ * <p>
+ * All lines are parsed before any command is run, so that every invalid line is reported at once. The commands then
+ * change the address book as one step, which is saved once and undone together. If any command fails, the changes
+ * of the commands before it are rolled back.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    /** Lines starting with this are comments, which are skipped like blank lines. */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one per line, as a single command. Blank lines and lines starting"
+            + " with " + COMMENT_MARKER + " are skipped. If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/new-patients.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s in %3$d ms (%4$.0f commands per second).";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINES = "No commands were run, as %1$d lines of %2$s are invalid:\n%3$s";
+    public static final String MESSAGE_FAILED_LINE = "No changes were made, as line %1$d of %2$s failed: %3$s";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_ALLOWED = "%1$s cannot be run in a batch";
+
+    /** Commands that depend on the commands before them being separate steps, or that end the session. */
+    private static final Set<Class<? extends Command>> NOT_ALLOWED =
+            Set.of(BatchCommand.class, UndoCommand.class, RedoCommand.class, ExitCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a {@code BatchCommand} that runs the commands in the file at {@code filePath}.
+     */
+    public BatchCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long start = System.nanoTime();
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe), ioe);
+        }
+
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        AddressBookParser parser = new AddressBookParser();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                Command command = parser.parseCommand(line);
+                if (NOT_ALLOWED.contains(command.getClass())) {
+                    throw new ParseException(String.format(MESSAGE_NOT_ALLOWED, line.split("\\s+", 2)[0]));
+                }
+                commands.add(command);
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, i + 1, pe.getMessage()));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LINES, errors.size(), filePath,
+                    String.join("\n", errors)));
+        }
+
+        boolean isCompleted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    commands.get(i).execute(model);
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_FAILED_LINE, lineNumbers.get(i), filePath,
+                            ce.getMessage()), ce);
+                }
+            }
+            isCompleted = true;
+        } finally {
+            if (!isCompleted) {
+                model.rollbackAddressBook();
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), filePath, elapsed / 1_000_000,
+                commands.size() * 1e9 / Math.max(elapsed, 1)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return filePath.equals(otherBatchCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
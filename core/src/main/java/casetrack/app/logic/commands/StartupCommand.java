@@ -0,0 +1,54 @@
+package casetrack.app.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import casetrack.app.commons.core.StartupTimings;
+import casetrack.app.model.Model;
+
+/**
+ * Shows how long each phase of the application startup took.
+ */
+public class StartupCommand extends Command {
+
+    public static final String COMMAND_WORD = "startup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each phase of the startup took.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Startup phases:\n%s";
+    public static final String MESSAGE_NO_TIMINGS = "No startup phases have been recorded.";
+
+    private final StartupTimings startupTimings;
+
+    /**
+     * Creates a {@code StartupCommand} that shows {@code startupTimings}.
+     */
+    public StartupCommand(StartupTimings startupTimings) {
+        requireNonNull(startupTimings);
+        this.startupTimings = startupTimings;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        String phases = startupTimings.format();
+        if (phases.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TIMINGS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, phases));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StartupCommand)) {
+            return false;
+        }
+
+        StartupCommand otherStartupCommand = (StartupCommand) other;
+        return startupTimings == otherStartupCommand.startupTimings;
+    }
+}
@@ -52,7 +52,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         Income income = ParserUtil.parseIncome(argMultimap.getValue(PREFIX_INCOME).get());
         MedicalInfo medicalInfo = argMultimap.getValue(PREFIX_MEDICAL_INFO).isPresent()
                 ? ParserUtil.parseMedicalInfo(argMultimap.getValue(PREFIX_MEDICAL_INFO).get())
-                : new MedicalInfo("-");
+                : MedicalInfo.of("-");
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
         Person person = new Person(name, phone, email, address, income, medicalInfo, tagList);
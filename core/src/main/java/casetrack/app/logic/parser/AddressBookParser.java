@@ -0,0 +1,97 @@
+package casetrack.app.logic.parser;
+
+import static casetrack.app.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static casetrack.app.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.core.StartupTimings;
+import casetrack.app.logic.commands.AddCommand;
+import casetrack.app.logic.commands.BatchCommand;
+import casetrack.app.logic.commands.ClearCommand;
+import casetrack.app.logic.commands.Command;
+import casetrack.app.logic.commands.DeleteCommand;
+import casetrack.app.logic.commands.EditPatientCommand;
+import casetrack.app.logic.commands.ExitCommand;
+import casetrack.app.logic.commands.FindCommand;
+import casetrack.app.logic.commands.HelpCommand;
+import casetrack.app.logic.commands.ListCommand;
+import casetrack.app.logic.commands.NoteCommand;
+import casetrack.app.logic.commands.RedoCommand;
+import casetrack.app.logic.commands.StartupCommand;
+import casetrack.app.logic.commands.UndoCommand;
+import casetrack.app.logic.commands.ViewDetailsCommand;
+import casetrack.app.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses user input.
+ */
+public class AddressBookParser {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    /**
+     * Parsers of all commands by command word. The parsers are stateless, so they are shared by all instances.
+     */
+    private static final CommandRegistry COMMANDS = createCommandRegistry();
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(String userInput) throws ParseException {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
+
+        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
+        // log messages such as the one below.
+        // Lower level log messages are used sparingly to minimize noise in the code.
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
+
+        Optional<Parser<? extends Command>> parser = COMMANDS.find(commandWord);
+        if (!parser.isPresent()) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.get().parse(arguments);
+    }
+
+    /**
+     * Returns the registry of all commands. Commands that delete data, undo or redo changes, or run other commands
+     * cannot be abbreviated, as the meaning of an abbreviation changes when a command word is added.
+     */
+    private static CommandRegistry createCommandRegistry() {
+        CommandRegistry commands = new CommandRegistry();
+        commands.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        commands.register(EditPatientCommand.COMMAND_WORD, new EditCommandParser());
+        commands.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser(), false);
+        commands.register(NoteCommand.COMMAND_WORD, new NoteCommandParser());
+        commands.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand(), false);
+        commands.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        commands.register(ViewDetailsCommand.COMMAND_WORD, new ViewDetailsCommandParser());
+        commands.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        commands.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand(), false);
+        commands.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand(), false);
+        commands.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand(), false);
+        commands.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        commands.register(BatchCommand.COMMAND_WORD, new BatchCommandParser(), false);
+        commands.register(StartupCommand.COMMAND_WORD, arguments -> new StartupCommand(StartupTimings.getInstance()));
+        return commands;
+    }
+
+}
@@ -0,0 +1,100 @@
+package casetrack.app.logic.parser;
+
+/**
+ * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
+ *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
+ * 1. An argument's value can be an empty string e.g. the value of {@code k/} in the above example.<br>
+ * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
+ * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
+ *    in the above example.<br>
+ */
+public class ArgumentTokenizer {
+
+    /** The prefix under which the preamble is stored. */
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    /**
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * <p>
+     * The arguments are extracted from left to right by merging the occurrences of all prefixes, so every value is
+     * stored as soon as the next recognized prefix, or the end of the string, is found. If several prefixes start at
+     * the same position, the longest one is recognized.
+     *
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param prefixes   Prefixes to tokenize the arguments string with
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
+     */
+    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        // The next position of every prefix, or -1 once it does not occur any more
+        int[] nextPositions = new int[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            nextPositions[i] = findPrefixPosition(argsString, prefixes[i].getPrefix(), 0);
+        }
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix argPrefix = PREAMBLE;
+        int valueStart = 0;
+        int next = findNextPrefix(prefixes, nextPositions);
+        while (next != -1) {
+            int position = nextPositions[next];
+            argMultimap.put(argPrefix, argsString.substring(valueStart, position).trim());
+            argPrefix = prefixes[next];
+            valueStart = position + argPrefix.getPrefix().length();
+
+            // Occurrences before the start of the value are part of the recognized prefix
+            for (int i = 0; i < prefixes.length; i++) {
+                if (nextPositions[i] != -1 && nextPositions[i] < valueStart) {
+                    nextPositions[i] = findPrefixPosition(argsString, prefixes[i].getPrefix(), valueStart);
+                }
+            }
+            next = findNextPrefix(prefixes, nextPositions);
+        }
+        argMultimap.put(argPrefix, argsString.substring(valueStart).trim());
+
+        return argMultimap;
+    }
+
+    /**
+     * Returns the index in {@code prefixes} of the prefix that occurs first according to {@code nextPositions}, or
+     * -1 if no prefix occurs any more. Of prefixes that occur at the same position, the longest one is returned.
+     */
+    private static int findNextPrefix(Prefix[] prefixes, int[] nextPositions) {
+        int next = -1;
+        for (int i = 0; i < prefixes.length; i++) {
+            if (nextPositions[i] == -1) {
+                continue;
+            }
+            if (next == -1 || nextPositions[i] < nextPositions[next] || (nextPositions[i] == nextPositions[next]
+                    && prefixes[i].getPrefix().length() > prefixes[next].getPrefix().length())) {
+                next = i;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code prefix} in
+     * {@code argsString} starting from index {@code fromIndex}. An occurrence
+     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
+     * such occurrence can be found, or if {@code prefix} is empty.
+     *
+     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
+     * {@code fromIndex} = 0, this method returns -1 as there are no valid
+     * occurrences of "p/" with whitespace before it. However, if
+     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
+     * {@code fromIndex} = 0, this method returns 5.
+     */
+    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+        if (prefix.isEmpty()) {
+            return -1;
+        }
+        // an occurrence at index 0 has no whitespace before it
+        int prefixIndex = argsString.indexOf(prefix, Math.max(fromIndex, 1));
+        while (prefixIndex != -1 && argsString.charAt(prefixIndex - 1) != ' ') {
+            prefixIndex = argsString.indexOf(prefix, prefixIndex + 1);
+        }
+        return prefixIndex;
+    }
+
+}
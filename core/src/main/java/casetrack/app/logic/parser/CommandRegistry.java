@@ -0,0 +1,94 @@
+package casetrack.app.logic.parser;
+
+import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import casetrack.app.logic.commands.Command;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * <p>
+ * Command words are kept in a trie, so that a command can also be looked up by an abbreviation of its command word,
+ * i.e. by any prefix of it that is not a prefix of another command word. E.g. {@code vi} finds {@code view} unless
+ * another command word also starts with {@code vi}. Parsers are shared by all lookups, so they must not keep any state
+ * between parses.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %s is already registered";
+
+    private final Node root = new Node();
+
+    /**
+     * Registers {@code parser} as the parser of the commands with {@code commandWord}. The command can also be looked
+     * up by an abbreviation of {@code commandWord}.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        register(commandWord, parser, true);
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the commands with {@code commandWord}. The command can only be looked
+     * up by an abbreviation of {@code commandWord} if {@code canBeAbbreviated} is true, so that commands with drastic
+     * effects can be registered to only be run when spelled out.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty or already registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser, boolean canBeAbbreviated) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!commandWord.isEmpty(), "Command word must not be empty");
+        checkArgument(!isRegistered(commandWord), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+
+        Node node = root;
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.children.computeIfAbsent(commandWord.charAt(i), c -> new Node());
+            node.wordCount++;
+            node.abbreviatedParser = node.wordCount == 1 && canBeAbbreviated ? parser : null;
+        }
+        node.parser = parser;
+    }
+
+    /**
+     * Returns the parser of the command with {@code word} as its command word, or as an abbreviation of its command
+     * word. A command word that is spelled out takes precedence over the abbreviations of longer command words.
+     */
+    public Optional<Parser<? extends Command>> find(String word) {
+        requireNonNull(word);
+        Node node = findNode(word);
+        if (node == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(node.parser != null ? node.parser : node.abbreviatedParser);
+    }
+
+    private boolean isRegistered(String commandWord) {
+        Node node = findNode(commandWord);
+        return node != null && node.parser != null;
+    }
+
+    private Node findNode(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A node of the trie, reached by the characters of the command words that start with the same prefix.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        /** The number of command words that pass through this node. */
+        private int wordCount;
+        /** The parser of the command word that ends at this node, if any. */
+        private Parser<? extends Command> parser;
+        /** The parser of the only command word that passes through this node, if it can be abbreviated. */
+        private Parser<? extends Command> abbreviatedParser;
+    }
+}
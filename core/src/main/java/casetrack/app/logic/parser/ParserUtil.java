@@ -82,7 +82,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -127,7 +127,7 @@ public class ParserUtil {
         if (!MedicalInfo.isValidMedicalInfo(trimmedMedicalInfo)) {
             throw new ParseException(MedicalInfo.MESSAGE_CONSTRAINTS);
         }
-        return new MedicalInfo(trimmedMedicalInfo);
+        return MedicalInfo.of(trimmedMedicalInfo);
     }
 
     /**
@@ -142,7 +142,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
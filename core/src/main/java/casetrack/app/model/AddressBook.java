@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import casetrack.app.commons.util.PersistentList;
 import casetrack.app.commons.util.ToStringBuilder;
 import casetrack.app.model.person.Person;
 import casetrack.app.model.person.UniquePersonList;
@@ -16,6 +17,7 @@ import javafx.collections.ObservableList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +48,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -73,6 +76,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Adds a person to the address book at the specified {@code index}.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+        version++;
     }
 
     /**
@@ -84,6 +97,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -92,10 +106,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     //// util methods
 
+    /**
+     * Returns a number that changes whenever the persons in this address book are modified, so that callers can
+     * tell whether the data changed without comparing it.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -108,6 +131,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an immutable copy of this address book in constant time.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookSnapshot(getPersonSnapshot());
+    }
+
+    /**
+     * Returns an immutable list of the persons currently in this address book, in constant time.
+     */
+    PersistentList<Person> getPersonSnapshot() {
+        return persons.getSnapshot();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,68 @@
+package casetrack.app.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import casetrack.app.commons.util.PersistentList;
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.person.Person;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An immutable version of an address book. Since neither the persons nor the list holding them can change, a
+ * snapshot can be read from any number of threads without locking.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot holding the persons in {@code persons}, which takes constant time if {@code persons} is a
+     * {@code PersistentList}.
+     */
+    public AddressBookSnapshot(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = PersistentList.copyOf(persons);
+        personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(this.persons));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -49,9 +49,26 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the data in {@code addressBook}, which was loaded from storage.
+     * Unlike {@link #setAddressBook(ReadOnlyAddressBook)}, this cannot be undone, and clears the undo/redo history.
+     */
+    void loadAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable version of the AddressBook as of the last commit, or as loaded if it was loaded since.
+     * Unlike the other methods, this may be called from any thread, and never waits for changes in progress.
+     */
+    ReadOnlyAddressBook getCommittedAddressBook();
+
+    /**
+     * Returns a number that changes whenever the address book data changes, including through undo and redo.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -76,6 +93,42 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Saves the changes made to the address book since the last commit as one undoable step.
+     *
+     * @return true if the address book changed since the last commit.
+     */
+    boolean commitAddressBook();
+
+    /**
+     * Discards the changes made to the address book since the last commit.
+     *
+     * @return true if the address book changed since the last commit.
+     */
+    boolean rollbackAddressBook();
+
+    /**
+     * Returns true if the model has a previous address book state to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has an undone address book state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book to its previous state.
+     * {@link #canUndoAddressBook()} must be true.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     * {@link #canRedoAddressBook()} must be true.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
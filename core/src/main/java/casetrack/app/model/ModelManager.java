@@ -19,10 +19,13 @@ import javafx.collections.transformation.FilteredList;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
 
+    // Published by the thread that changes the address book, and read without locking by any other thread
+    private volatile ReadOnlyAddressBook committedAddressBook;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -31,9 +34,10 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryBudget());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        committedAddressBook = this.addressBook.getSnapshot();
     }
 
     public ModelManager() {
@@ -82,11 +86,28 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void loadAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook.reset(addressBook);
+        committedAddressBook = this.addressBook.getSnapshot();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getCommittedAddressBook() {
+        return committedAddressBook;
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -114,6 +135,38 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public boolean commitAddressBook() {
+        // Undo and redo change the address book without pending changes, so the snapshot is always published
+        committedAddressBook = addressBook.getSnapshot();
+        return addressBook.commit();
+    }
+
+    @Override
+    public boolean rollbackAddressBook() {
+        return addressBook.rollback();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -14,4 +14,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an immutable copy of this address book, which is not affected by later changes to it and can be read
+     * from any thread.
+     */
+    default ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookSnapshot(getPersonList());
+    }
 }
@@ -15,6 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "casetrack.json");
+    private int undoHistoryBudget = VersionedAddressBook.DEFAULT_HISTORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +37,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +58,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    /**
+     * Sets the maximum number of patient references retained by the undo/redo history.
+     */
+    public void setUndoHistoryBudget(int undoHistoryBudget) {
+        if (undoHistoryBudget < 0) {
+            throw new IllegalArgumentException("Undo history budget must not be negative");
+        }
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +85,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryBudget == otherUserPrefs.undoHistoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryBudget);
     }
 
     @Override
@@ -82,6 +99,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history budget : " + undoHistoryBudget);
         return sb.toString();
     }
 
@@ -0,0 +1,247 @@
+package casetrack.app.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * An {@code AddressBook} that keeps an undo/redo history of its changes.
+ * <p>
+ * Instead of copying the whole person list on every commit, each change is recorded as a splice of the person
+ * list (the persons removed and inserted at an index). Since {@code Person} objects are immutable, the splices
+ * only hold references to persons that are shared with the live list and with other states in the history.
+ * Changes made since the last {@link #commit()} form one undoable step.
+ * <p>
+ * The history is bounded by a budget on the number of person references it retains. When the budget is exceeded,
+ * the oldest steps are discarded, but the most recent step is always kept so that it can be undone.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** Default number of person references that the undo/redo history may retain. */
+    public static final int DEFAULT_HISTORY_BUDGET = 100_000;
+
+    private final int historyBudget;
+    private final List<Splice> pendingChanges = new ArrayList<>();
+    private final Deque<List<Splice>> undoStack = new ArrayDeque<>();
+    private final Deque<List<Splice>> redoStack = new ArrayDeque<>();
+    private long retainedWeight;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the persons in {@code initialState} and an empty history
+     * bounded by {@code historyBudget} person references.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyBudget) {
+        requireNonNull(initialState);
+        if (historyBudget < 0) {
+            throw new IllegalArgumentException("History budget must not be negative");
+        }
+        this.historyBudget = historyBudget;
+        super.setPersons(initialState.getPersonList());
+    }
+
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_HISTORY_BUDGET);
+    }
+
+    //// recorded operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> before = getPersonSnapshot();
+        super.setPersons(persons);
+        record(0, before, getPersonSnapshot());
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        int index = getPersonList().size();
+        super.addPerson(p);
+        record(index, List.of(), List.of(p));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        int index = getPersonList().indexOf(target);
+        Person before = index == -1 ? null : getPersonList().get(index);
+        super.setPerson(target, editedPerson);
+        record(index, List.of(before), List.of(editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = getPersonList().indexOf(key);
+        Person removed = index == -1 ? null : getPersonList().get(index);
+        super.removePerson(key);
+        record(index, List.of(removed), List.of());
+    }
+
+    //// history operations
+
+    /**
+     * Replaces the persons with those in {@code initialState} and clears the history, as if this address book had
+     * been created with {@code initialState}.
+     */
+    public void reset(ReadOnlyAddressBook initialState) {
+        requireNonNull(initialState);
+        super.setPersons(initialState.getPersonList());
+        pendingChanges.clear();
+        undoStack.clear();
+        redoStack.clear();
+        retainedWeight = 0;
+    }
+
+    /**
+     * Saves the changes made since the last commit as one undoable step and discards the redo history.
+     *
+     * @return true if there were changes to commit, false if the address book is unchanged since the last commit.
+     */
+    public boolean commit() {
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+
+        List<Splice> step = List.copyOf(pendingChanges);
+        pendingChanges.clear();
+
+        redoStack.forEach(discarded -> retainedWeight -= weightOf(discarded));
+        redoStack.clear();
+
+        undoStack.push(step);
+        retainedWeight += weightOf(step);
+        trimHistory();
+        return true;
+    }
+
+    /**
+     * Discards the changes made since the last commit, restoring the address book to its state at that commit.
+     * The undo/redo history is not affected.
+     *
+     * @return true if there were changes to discard.
+     */
+    public boolean rollback() {
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+        for (int i = pendingChanges.size() - 1; i >= 0; i--) {
+            pendingChanges.get(i).revert(this);
+        }
+        pendingChanges.clear();
+        return true;
+    }
+
+    /**
+     * Returns true if there is a committed step that can be undone.
+     */
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Restores the address book to its state before the last committed step.
+     * There must be no uncommitted changes, and {@link #canUndo()} must be true.
+     */
+    public void undo() {
+        assert pendingChanges.isEmpty() : "Changes must be committed before undoing";
+        assert canUndo() : "There is no step to undo";
+
+        List<Splice> step = undoStack.pop();
+        for (int i = step.size() - 1; i >= 0; i--) {
+            step.get(i).revert(this);
+        }
+        redoStack.push(step);
+    }
+
+    /**
+     * Restores the address book to its state before the last undo.
+     * There must be no uncommitted changes, and {@link #canRedo()} must be true.
+     */
+    public void redo() {
+        assert pendingChanges.isEmpty() : "Changes must be committed before redoing";
+        assert canRedo() : "There is no step to redo";
+
+        List<Splice> step = redoStack.pop();
+        for (Splice splice : step) {
+            splice.apply(this);
+        }
+        undoStack.push(step);
+    }
+
+    //// internal helpers
+
+    private void record(int index, List<Person> removed, List<Person> inserted) {
+        pendingChanges.add(new Splice(index, removed, inserted));
+    }
+
+    /**
+     * Discards the oldest undoable steps until the history fits within the budget, always keeping the latest step.
+     */
+    private void trimHistory() {
+        while (retainedWeight > historyBudget && undoStack.size() > 1) {
+            retainedWeight -= weightOf(undoStack.removeLast());
+        }
+    }
+
+    private static long weightOf(List<Splice> step) {
+        long weight = 0;
+        for (Splice splice : step) {
+            weight += splice.removed.size() + splice.inserted.size();
+        }
+        return weight;
+    }
+
+    /**
+     * Replaces the persons {@code toRemove} starting at {@code index} with {@code toInsert}, without recording
+     * the change in the history.
+     */
+    private void replaceRange(int index, List<Person> toRemove, List<Person> toInsert) {
+        if (index == 0 && toRemove.size() == getPersonList().size()) {
+            super.setPersons(toInsert);
+            return;
+        }
+        if (toRemove.size() == 1 && toInsert.size() == 1) {
+            super.setPerson(toRemove.get(0), toInsert.get(0));
+            return;
+        }
+        for (Person person : toRemove) {
+            super.removePerson(person);
+        }
+        for (int i = 0; i < toInsert.size(); i++) {
+            super.addPerson(index + i, toInsert.get(i));
+        }
+    }
+
+    /**
+     * Represents the replacement of a range of persons in the person list.
+     */
+    private static class Splice {
+        private final int index;
+        private final List<Person> removed;
+        private final List<Person> inserted;
+
+        Splice(int index, List<Person> removed, List<Person> inserted) {
+            this.index = index;
+            this.removed = removed;
+            this.inserted = inserted;
+        }
+
+        void apply(VersionedAddressBook addressBook) {
+            addressBook.replaceRange(index, removed, inserted);
+        }
+
+        void revert(VersionedAddressBook addressBook) {
+            addressBook.replaceRange(index, inserted, removed);
+        }
+    }
+}
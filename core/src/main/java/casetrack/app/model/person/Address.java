@@ -3,6 +3,9 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import casetrack.app.commons.util.Interner;
+import casetrack.app.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +20,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,11 +35,20 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns the shared {@code Address} instance with the given {@code address}.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(new Address(address));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && !StringUtil.isAsciiWhitespace(test.charAt(0)) && StringUtil.isSingleLine(test, 1);
     }
 
     @Override
@@ -3,6 +3,8 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import casetrack.app.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -48,7 +50,68 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        if (at == -1 || !isValidLocalPart(test.substring(0, at))) {
+            return false;
+        }
+
+        String[] labels = test.substring(at + 1).split("\\.", -1);
+        for (String label : labels) {
+            if (!isValidDomainLabel(label)) {
+                return false;
+            }
+        }
+        return hasAdjacentAlphanumerics(labels[labels.length - 1]);
+    }
+
+    /**
+     * Returns true if {@code localPart} consists of alphanumeric characters separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String localPart) {
+        return isSeparatedAlphanumerics(localPart, SPECIAL_CHARACTERS);
+    }
+
+    /**
+     * Returns true if {@code label} consists of alphanumeric characters separated by single hyphens.
+     */
+    private static boolean isValidDomainLabel(String label) {
+        return isSeparatedAlphanumerics(label, "-");
+    }
+
+    /**
+     * Returns true if {@code test} is made up of runs of alphanumeric characters separated by single characters
+     * from {@code separators}.
+     */
+    private static boolean isSeparatedAlphanumerics(String test, String separators) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        boolean isAfterSeparator = true;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterSeparator = false;
+            } else if (separators.indexOf(c) != -1 && !isAfterSeparator) {
+                isAfterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterSeparator;
+    }
+
+    /**
+     * Returns true if {@code label} has two consecutive alphanumeric characters, so that it is at least two
+     * characters long as required of the last domain label.
+     */
+    private static boolean hasAdjacentAlphanumerics(String label) {
+        for (int i = 1; i < label.length(); i++) {
+            if (StringUtil.isAsciiAlphanumeric(label.charAt(i - 1))
+                    && StringUtil.isAsciiAlphanumeric(label.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -13,13 +13,20 @@ import java.util.Locale;
 /**
  * Represents a Person's income in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidIncome(String)}
+ * <p>
+ * The value is kept in canonical form (trailing zeros stripped) as a primitive unscaled value and scale, i.e.
+ * {@code unscaledValue * 10^-scale}. A {@code BigDecimal} is only retained for values whose unscaled value does
+ * not fit in a {@code long}.
  */
 public class Income {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Income must be a numeric value greater than or equal to 0.";
 
-    private final BigDecimal value;
+    private final long unscaledValue;
+    private final int scale;
+    /** The exact value if its unscaled value does not fit in a {@code long}, otherwise null. */
+    private final BigDecimal largeValue;
 
     /**
      * Constructs an {@code Income} from a numeric string.
@@ -28,7 +35,15 @@ public class Income {
     public Income(String income) {
         requireNonNull(income);
         checkArgument(isValidIncome(income), MESSAGE_CONSTRAINTS);
-        this.value = new BigDecimal(income.trim()).stripTrailingZeros();
+        BigDecimal value = new BigDecimal(income.trim()).stripTrailingZeros();
+        this.scale = value.scale();
+        if (value.unscaledValue().bitLength() < Long.SIZE) {
+            this.unscaledValue = value.unscaledValue().longValue();
+            this.largeValue = null;
+        } else {
+            this.unscaledValue = 0;
+            this.largeValue = value;
+        }
     }
 
     /**
@@ -49,7 +64,7 @@ public class Income {
     }
 
     public BigDecimal getValue() {
-        return value;
+        return largeValue != null ? largeValue : BigDecimal.valueOf(unscaledValue, scale);
     }
 
     /**
@@ -69,7 +84,7 @@ public class Income {
         symbols.setCurrencySymbol(sgd.getCurrencyCode() + " ");
         df.setDecimalFormatSymbols(symbols);
         df.setCurrency(sgd);
-        return df.format(this.value);
+        return df.format(getValue());
     }
 
     /**
@@ -78,7 +93,7 @@ public class Income {
      * @return numeric string without currency/grouping; trailing zeros not preserved.
      */
     public String toPlainString() {
-        return this.value.toString();
+        return getValue().toString();
     }
 
     @Override
@@ -90,12 +105,15 @@ public class Income {
             return false;
         }
         Income otherIncome = (Income) other;
-        return this.value.compareTo(otherIncome.value) == 0;
+        // Both values are in canonical form, so numerically equal values (e.g. 1 and 1.0) have identical fields
+        if (largeValue != null || otherIncome.largeValue != null) {
+            return getValue().equals(otherIncome.getValue());
+        }
+        return unscaledValue == otherIncome.unscaledValue && scale == otherIncome.scale;
     }
 
     @Override
     public int hashCode() {
-        // Ensure values that are numerically equal have the same hash (e.g., 1 and 1.0)
-        return this.value.stripTrailingZeros().hashCode();
+        return largeValue != null ? largeValue.hashCode() : 31 * Long.hashCode(unscaledValue) + scale;
     }
 }
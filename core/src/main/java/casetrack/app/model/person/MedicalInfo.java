@@ -3,6 +3,9 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import casetrack.app.commons.util.Interner;
+import casetrack.app.commons.util.StringUtil;
+
 /**
  * Represents a Person's medical information in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMedicalInfo(String)}
@@ -18,6 +21,8 @@ public class MedicalInfo {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<MedicalInfo> INTERNER = new Interner<>();
+
     public final String medicalInfo;
 
     /**
@@ -31,11 +36,20 @@ public class MedicalInfo {
         this.medicalInfo = medicalInfo;
     }
 
+    /**
+     * Returns the shared {@code MedicalInfo} instance with the given {@code medicalInfo}.
+     *
+     * @param medicalInfo Non-empty medical info string.
+     */
+    public static MedicalInfo of(String medicalInfo) {
+        return INTERNER.intern(new MedicalInfo(medicalInfo));
+    }
+
     /**
      * Returns true if a given string is a valid medical info.
      */
     public static boolean isValidMedicalInfo(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && !StringUtil.isAsciiWhitespace(test.charAt(0)) && StringUtil.isSingleLine(test, 1);
     }
 
     @Override
@@ -3,6 +3,10 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
+import casetrack.app.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -25,7 +29,10 @@ public class Name {
      */
     public static final String AT_LEAST_ONE_ALPHABET = ".*[a-zA-Z].*";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     public final String fullName;
+    private final int hash;
 
     /**
      * Constructs a {@code Name}.
@@ -36,13 +43,42 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        hash = normalizedName(name).hashCode();
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.matches(AT_LEAST_ONE_ALPHABET);
+        if (test.isEmpty()) {
+            return false;
+        }
+        char first = test.charAt(0);
+        if (!StringUtil.isAsciiAlphanumeric(first) && first != '(' && first != ')') {
+            return false;
+        }
+
+        boolean hasAlphabet = isAlphabet(first);
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c == '/') {
+                // A slash is only allowed in "s/o " or "d/o ", which does not start the name
+                if (i < 2 || "sdSD".indexOf(test.charAt(i - 1)) == -1 || !test.startsWith("o ", i + 1)
+                        && !test.startsWith("O ", i + 1)) {
+                    return false;
+                }
+                i += 2;
+            } else if (StringUtil.isAsciiAlphanumeric(c)) {
+                hasAlphabet |= isAlphabet(c);
+            } else if (" .'()@-".indexOf(c) == -1) {
+                return false;
+            }
+        }
+        return hasAlphabet;
+    }
+
+    private static boolean isAlphabet(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 
 
@@ -63,19 +99,20 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return normalizedName(fullName).equals(normalizedName(otherName.fullName));
+        return hash == otherName.hash
+                && normalizedName(fullName).equals(normalizedName(otherName.fullName));
     }
 
     @Override
     public int hashCode() {
-        return normalizedName(fullName).hashCode();
+        return hash;
     }
 
     /**
      * Normalizes a name by converting to lowercase and replacing multiple consecutive spaces with a single space.
      */
     private static String normalizedName(String name) {
-        return name.toLowerCase().replaceAll("\\s+", " ").trim();
+        return WHITESPACE.matcher(name.toLowerCase()).replaceAll(" ").trim();
     }
 
 }
@@ -3,6 +3,8 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Note for a Person in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNote(String)}
@@ -12,6 +14,8 @@ public class Note {
     public static final String MESSAGE_CONSTRAINTS = "Note cannot be empty.";
     public static final String VALIDATION_REGEX = ".*\\S.*"; // At least one non-whitespace character
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -28,8 +32,8 @@ public class Note {
     /**
      * Returns true if a given string is a valid note.
      */
-    public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX);
+    public static boolean isValidNote(CharSequence test) {
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,287 @@
+package casetrack.app.model.person;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import casetrack.app.commons.util.PersistentList;
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Represents a Person in the address book.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class Person {
+
+    private static final Tag[] NO_TAGS = new Tag[0];
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    // Identity fields
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+
+    // Data fields
+    private final Address address;
+    private final Income income;
+    private final MedicalInfo medicalInfo;
+    private final Tag[] tags; // sorted by tag name
+    private volatile PersistentList<Note> notes; // null until loaded by noteLoader
+    private Supplier<? extends List<Note>> noteLoader; // guarded by this, null once the notes are loaded
+
+    /** Cached hash code, or 0 if it has not been computed yet. */
+    private int hash;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, Income income,
+            MedicalInfo medicalInfo, Set<Tag> tags) {
+        this(name, phone, email, address, income, medicalInfo, tags, PersistentList.empty());
+    }
+
+    /**
+     * Constructor with notes.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+            Income income, MedicalInfo medicalInfo, Set<Tag> tags, List<Note> notes) {
+        requireAllNonNull(name, phone, email, address, income, medicalInfo, tags, notes);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.income = income;
+        this.medicalInfo = medicalInfo;
+        this.tags = toSortedArray(tags);
+        this.notes = PersistentList.copyOf(notes);
+    }
+
+    /**
+     * Constructor with notes that are only loaded by {@code noteLoader} when they are first accessed.
+     * {@code noteLoader} is called at most once.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+            Income income, MedicalInfo medicalInfo, Set<Tag> tags, Supplier<? extends List<Note>> noteLoader) {
+        requireAllNonNull(name, phone, email, address, income, medicalInfo, tags, noteLoader);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.income = income;
+        this.medicalInfo = medicalInfo;
+        this.tags = toSortedArray(tags);
+        this.noteLoader = noteLoader;
+    }
+
+    /**
+     * Creates a copy of {@code source} with {@code notes} as its notes.
+     * The immutable fields of {@code source}, including its tag set, are shared rather than copied.
+     */
+    private Person(Person source, PersistentList<Note> notes) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.income = source.income;
+        this.medicalInfo = source.medicalInfo;
+        this.tags = source.tags;
+        this.notes = notes;
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public Income getIncome() {
+        return income;
+    }
+
+    public MedicalInfo getMedicalInfo() {
+        return medicalInfo;
+    }
+
+    /**
+     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted. Tags are iterated in order of their names.
+     */
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(new TagSet(tags));
+    }
+
+    /**
+     * Returns an immutable note list, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public List<Note> getNotes() {
+        return loadedNotes();
+    }
+
+    /**
+     * Returns the loader of the notes if they have not been loaded yet, or null once they have. This lets the storage
+     * that created the loader save the notes without loading them.
+     */
+    public synchronized Supplier<? extends List<Note>> getNoteLoader() {
+        return noteLoader;
+    }
+
+    private PersistentList<Note> loadedNotes() {
+        PersistentList<Note> loadedNotes = notes;
+        return loadedNotes != null ? loadedNotes : loadNotes();
+    }
+
+    private synchronized PersistentList<Note> loadNotes() {
+        if (notes == null) {
+            notes = PersistentList.copyOf(noteLoader.get());
+            noteLoader = null;
+        }
+        return notes;
+    }
+
+    /**
+     * Returns a new Person with the given note added to the notes list.
+     */
+    public Person addNote(Note note) {
+        requireNonNull(note);
+        return new Person(this, loadedNotes().plus(note));
+    }
+
+    /**
+     * Returns a new Person with the note at the specified index removed from the notes list.
+     */
+    public Person removeNote(int noteIndex) {
+        return new Person(this, loadedNotes().minus(noteIndex));
+    }
+
+    /**
+     * Returns a new Person with the note at the specified index replaced with the new note.
+     */
+    public Person editNote(int noteIndex, Note newNote) {
+        requireNonNull(newNote);
+        return new Person(this, loadedNotes().with(noteIndex, newNote));
+    }
+
+    /**
+     * Returns true if both persons have the same name (case-insensitive) and phone number.
+     * This defines a weaker notion of equality between two persons.
+     */
+    public boolean isSamePerson(Person otherPerson) {
+        if (otherPerson == this) {
+            return true;
+        }
+
+        return otherPerson != null
+                && otherPerson.getName().equals(getName())
+                && otherPerson.getPhone().equals(getPhone());
+    }
+
+    /**
+     * Returns true if both persons have the same identity and data fields.
+     * This defines a stronger notion of equality between two persons.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Person)) {
+            return false;
+        }
+
+        Person otherPerson = (Person) other;
+        // Cached hash codes are compared first, but are not computed here since that would load lazily loaded notes
+        return (hash == 0 || otherPerson.hash == 0 || hash == otherPerson.hash)
+                && name.equals(otherPerson.name)
+                && phone.equals(otherPerson.phone)
+                && email.equals(otherPerson.email)
+                && address.equals(otherPerson.address)
+                && Arrays.equals(tags, otherPerson.tags)
+                && income.equals(otherPerson.income)
+                && medicalInfo.equals(otherPerson.medicalInfo)
+                && loadedNotes().equals(otherPerson.loadedNotes());
+    }
+
+    @Override
+    public int hashCode() {
+        // Person is immutable, so the hash code is computed at most once (a zero hash is simply recomputed)
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(name, phone, email, address, income, medicalInfo, Arrays.hashCode(tags), loadedNotes());
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .add("income", income)
+                .add("medicalInfo", medicalInfo)
+                .add("tags", getTags())
+                .add("notes", getNotes())
+                .toString();
+    }
+
+    private static Tag[] toSortedArray(Set<Tag> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+        Tag[] sortedTags = tags.toArray(NO_TAGS);
+        Arrays.sort(sortedTags, TAG_NAME_ORDER);
+        return sortedTags;
+    }
+
+    /**
+     * A {@code Set} view of a sorted tag array.
+     */
+    private static class TagSet extends AbstractSet<Tag> {
+        private final Tag[] sortedTags;
+
+        TagSet(Tag[] sortedTags) {
+            this.sortedTags = sortedTags;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Tag && Arrays.binarySearch(sortedTags, (Tag) o, TAG_NAME_ORDER) >= 0;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Collections.unmodifiableList(Arrays.asList(sortedTags)).iterator();
+        }
+
+        @Override
+        public int size() {
+            return sortedTags.length;
+        }
+    }
+
+}
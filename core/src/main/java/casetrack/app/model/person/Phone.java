@@ -3,6 +3,8 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import casetrack.app.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -46,7 +48,25 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int start = test.startsWith("+") ? 1 : 0;
+        int separator = -1;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (separator == -1 && StringUtil.isAsciiWhitespace(c)) {
+                separator = i;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        if (separator == -1) {
+            // A '+' must be followed by a country code of 1 to 3 digits before the 3 to 17 digit number
+            int digits = test.length() - start;
+            return start == 0 ? digits >= 3 && digits <= 17 : digits >= 4 && digits <= 20;
+        }
+        int countryCodeDigits = separator - start;
+        int numberDigits = test.length() - separator - 1;
+        return countryCodeDigits >= 1 && countryCodeDigits <= 3 && numberDigits >= 3 && numberDigits <= 17;
     }
 
     @Override
@@ -3,9 +3,12 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
+import casetrack.app.commons.util.PersistentList;
 import casetrack.app.model.person.exceptions.DuplicatePersonException;
 import casetrack.app.model.person.exceptions.PersonNotFoundException;
 import javafx.collections.FXCollections;
@@ -20,6 +23,9 @@ import javafx.collections.ObservableList;
  *
  * Supports a minimal set of list operations.
  *
+ * Every change is also applied to an immutable {@code PersistentList}, so that a snapshot of the persons can be taken
+ * in constant time with {@link #getSnapshot()}.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,6 +33,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<Person> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -46,6 +53,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        snapshot = snapshot.plus(toAdd);
+    }
+
+    /**
+     * Adds a person to the list at the specified {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        snapshot = snapshot.plus(index, toAdd);
     }
 
     /**
@@ -66,6 +87,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        snapshot = snapshot.with(index, editedPerson);
     }
 
     /**
@@ -74,14 +96,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        snapshot = snapshot.minus(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        snapshot = replacement.snapshot;
     }
 
     /**
@@ -94,7 +120,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        PersistentList<Person> replacement = PersistentList.copyOf(persons);
+        internalList.setAll(replacement);
+        snapshot = replacement;
     }
 
     /**
@@ -104,6 +132,14 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable list of the persons currently in this list, which is not affected by later changes.
+     * Takes constant time.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return snapshot;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -136,15 +172,40 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Persons are hashed by the fields compared by {@code Person#isSamePerson(Person)}, so this takes linear time.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Identity> identities = new HashSet<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (!identities.add(new Identity(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The fields of a person that are compared by {@code Person#isSamePerson(Person)}.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        Identity(Person person) {
+            name = person.getName();
+            phone = person.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Identity
+                    && name.equals(((Identity) other).name)
+                    && phone.equals(((Identity) other).phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + phone.hashCode();
+        }
+    }
 }
@@ -0,0 +1,448 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with the magic bytes {@code CTAB} and a format version, followed by length-prefixed blocks that
+ * each carry a CRC-32 checksum of their content:
+ * <pre>
+ * file    = magic:byte[4] version:u16 dictionary count:int record*
+ * block   = length:int crc32:int content:byte[length]
+ * dictionary block content = size:int string*
+ * record block content     = name:string phone:string email:string address:ref income:string medicalInfo:ref
+ *                            tagCount:int ref* noteCount:int string*
+ * string  = length:int utf8:byte[length]
+ * ref     = index into the dictionary:int
+ * </pre>
+ * Values that are commonly shared between persons (tags, addresses and medical info) are stored once in the
+ * dictionary. The file is read through a memory-mapped {@code FileChannel}, and every record is validated in the
+ * same way as a record read from a JSON file. Notes make up most of a typical record but are only needed when a
+ * person is viewed, so at load time they are only checked on the bytes of the mapped file, and are only turned into
+ * {@code Note}s when they are first accessed. Saving copies the notes that have not been accessed as they were read,
+ * so that a save does not load them either.
+ * <p>
+ * If the file does not exist yet, the data is read from a legacy storage instead (typically the JSON data file)
+ * and immediately written in binary form.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_FILE = "%s is not a CaseTrack data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "%s has unsupported format version %d.";
+    public static final String MESSAGE_CORRUPTED_BLOCK = "Block %d of %s is corrupted.";
+
+    private static final byte[] MAGIC = {'C', 'T', 'A', 'B'};
+
+    // Files mapped into memory cannot be replaced on Windows until the mapping is garbage collected (JDK-4724038)
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookStorage legacyStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath} that converts the data in
+     * {@code legacyStorage} if the data file does not exist yet.
+     */
+    public BinaryAddressBookStorage(Path filePath, AddressBookStorage legacyStorage) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.legacyStorage = legacyStorage;
+    }
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (Files.exists(filePath) || legacyStorage == null) {
+            return readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> legacyData = legacyStorage.readAddressBook();
+        if (legacyData.isPresent()) {
+            logger.info("Converting " + legacyStorage.getAddressBookFilePath() + " to " + filePath);
+            try {
+                saveAddressBook(legacyData.get());
+            } catch (IOException e) {
+                logger.warning("Could not convert data to " + filePath + ": " + e);
+            }
+        }
+        return legacyData;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but never converts legacy data.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(readFile(filePath), filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static ByteBuffer readFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(filePath + " is too large");
+            }
+            if (CAN_MAP_FILES) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Decodes the address book in {@code buffer}, which holds the content of the file at {@code filePath}.
+     */
+    static ReadOnlyAddressBook read(ByteBuffer buffer, Path filePath) throws IOException, IllegalValueException {
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+            }
+            int version = Short.toUnsignedInt(buffer.getShort());
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+            }
+
+            ByteBuffer dictionaryBlock = readBlock(buffer, 0, filePath);
+            String[] dictionary = new String[dictionaryBlock.getInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(dictionaryBlock);
+            }
+
+            int count = buffer.getInt();
+            ValidatingAddressBookBuilder builder = new ValidatingAddressBookBuilder();
+            NoteChecker noteChecker = new NoteChecker();
+            for (int i = 1; i <= count; i++) {
+                ByteBuffer record = readBlock(buffer, i, filePath);
+                JsonAdaptedPerson person = readPerson(record, dictionary, List.of());
+                ByteBuffer notes = record.slice();
+                if (notes.getInt(0) == 0) {
+                    builder.add(person);
+                    continue;
+                }
+                if (noteChecker.areValid(notes)) {
+                    builder.add(person, new NoteLoader(notes));
+                } else {
+                    // Invalid notes are reported together with the other invalid fields, as for JSON files
+                    builder.add(readPerson(record.rewind(), dictionary, readNotes(notes)));
+                }
+            }
+            return builder.build();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | IllegalArgumentException e) {
+            throw new IOException(filePath + " is truncated or corrupted", e);
+        }
+    }
+
+    /**
+     * Returns the content of the next block in {@code buffer} after verifying its checksum.
+     */
+    private static ByteBuffer readBlock(ByteBuffer buffer, int blockIndex, Path filePath) throws IOException {
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        ByteBuffer content = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+
+        CRC32 crc = new CRC32();
+        crc.update(content.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_BLOCK, blockIndex, filePath));
+        }
+        return content;
+    }
+
+    /**
+     * Decodes the fields of a person up to its notes, leaving {@code record} positioned at the notes. The returned
+     * person has the given {@code notes} instead.
+     */
+    private static JsonAdaptedPerson readPerson(ByteBuffer record, String[] dictionary, List<String> notes) {
+        String name = readString(record);
+        String phone = readString(record);
+        String email = readString(record);
+        String address = dictionary[record.getInt()];
+        String income = readString(record);
+        String medicalInfo = dictionary[record.getInt()];
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = record.getInt(); i > 0; i--) {
+            tags.add(new JsonAdaptedTag(dictionary[record.getInt()]));
+        }
+        // Persons are validated through their adapted form, so that invalid data is reported as for JSON files
+        return new JsonAdaptedPerson(name, phone, email, address, income, medicalInfo, tags, notes);
+    }
+
+    /**
+     * Decodes the notes at the start of {@code notes} without changing its position.
+     */
+    private static List<String> readNotes(ByteBuffer notes) {
+        ByteBuffer buffer = notes.duplicate();
+        List<String> decoded = new ArrayList<>(buffer.getInt());
+        while (buffer.hasRemaining()) {
+            decoded.add(readString(buffer));
+        }
+        return decoded;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in binary form.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> dictionaryEntries = new ArrayList<>();
+        for (Person person : persons) {
+            addToDictionary(dictionary, dictionaryEntries, person.getAddress().value);
+            addToDictionary(dictionary, dictionaryEntries, person.getMedicalInfo().medicalInfo);
+            for (Tag tag : person.getTags()) {
+                addToDictionary(dictionary, dictionaryEntries, tag.tagName);
+            }
+        }
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.write(MAGIC);
+        dataOut.writeShort(FORMAT_VERSION);
+
+        BlockWriter block = new BlockWriter();
+        block.content.writeInt(dictionaryEntries.size());
+        for (String entry : dictionaryEntries) {
+            writeString(block.content, entry);
+        }
+        block.writeTo(dataOut);
+
+        dataOut.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(block.content, person, dictionary);
+            block.writeTo(dataOut);
+        }
+        dataOut.flush();
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, List<String> entries, String value) {
+        if (dictionary.putIfAbsent(value, entries.size()) == null) {
+            entries.add(value);
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        out.writeInt(dictionary.get(person.getAddress().value));
+        writeString(out, person.getIncome().toPlainString());
+        out.writeInt(dictionary.get(person.getMedicalInfo().medicalInfo));
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(dictionary.get(tag.tagName));
+        }
+        // Notes that have not been accessed since they were read are copied as they are, without loading them
+        Supplier<? extends List<Note>> noteLoader = person.getNoteLoader();
+        if (noteLoader instanceof NoteLoader) {
+            NoteLoader binaryNoteLoader = (NoteLoader) noteLoader;
+            binaryNoteLoader.writeTo(out);
+            return;
+        }
+        out.writeInt(person.getNotes().size());
+        for (Note note : person.getNotes()) {
+            writeString(out, note.value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes the notes of a person from the end of its record when they are first accessed. The notes have already
+     * been checked when the record was read, so creating the {@code Note}s cannot fail.
+     */
+    private static class NoteLoader implements Supplier<List<Note>> {
+        private final ByteBuffer notes;
+
+        NoteLoader(ByteBuffer notes) {
+            this.notes = notes;
+        }
+
+        @Override
+        public List<Note> get() {
+            List<String> values = readNotes(notes);
+            List<Note> decoded = new ArrayList<>(values.size());
+            for (String value : values) {
+                decoded.add(new Note(value));
+            }
+            return decoded;
+        }
+
+        /**
+         * Writes the notes to {@code out} in the form they were read in.
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            byte[] bytes = new byte[notes.remaining()];
+            notes.get(notes.position(), bytes);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Checks the notes at the end of records without creating a {@code String} for every note, so that loading a
+     * record does not cost as much as loading its notes. Its buffers are reused for all records.
+     */
+    private static class NoteChecker {
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+        private CharBuffer chars = CharBuffer.allocate(256);
+
+        /**
+         * Returns true if all notes in {@code notes} are valid.
+         *
+         * @throws IllegalArgumentException if the notes do not fill {@code notes} exactly or are not valid UTF-8.
+         */
+        boolean areValid(ByteBuffer notes) {
+            ByteBuffer buffer = notes.duplicate();
+            int end = buffer.limit();
+            boolean areValid = true;
+            for (int i = buffer.getInt(); i > 0; i--) {
+                int length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    throw new IllegalArgumentException("Note length out of bounds: " + length);
+                }
+                buffer.limit(buffer.position() + length);
+                areValid &= isValid(buffer);
+                buffer.limit(end);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Unexpected data after the notes");
+            }
+            return areValid;
+        }
+
+        /**
+         * Decodes the remaining bytes of {@code note} into the reused character buffer and validates them.
+         */
+        private boolean isValid(ByteBuffer note) {
+            // UTF-8 never needs more characters than bytes
+            if (chars.capacity() < note.remaining()) {
+                chars = CharBuffer.allocate(note.remaining());
+            }
+            chars.clear();
+            decoder.reset();
+            if (decoder.decode(note, chars, true).isError() || decoder.flush(chars).isError()) {
+                throw new IllegalArgumentException("Note is not valid UTF-8");
+            }
+            return Note.isValidNote(chars.flip());
+        }
+    }
+
+    /**
+     * Collects the content of a block, so that it can be written after its length and checksum.
+     */
+    private static class BlockWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream content = new DataOutputStream(bytes);
+        private final CRC32 crc = new CRC32();
+
+        /**
+         * Writes the collected content to {@code out} as a block and starts a new block.
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            byte[] data = bytes.toByteArray();
+            crc.reset();
+            crc.update(data);
+            out.writeInt(data.length);
+            out.writeInt((int) crc.getValue());
+            out.write(data);
+            bytes.reset();
+        }
+    }
+}
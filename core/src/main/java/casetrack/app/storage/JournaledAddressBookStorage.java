@@ -0,0 +1,238 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only journal of the changes
+ * made since the snapshot was taken.
+ * <p>
+ * Each save appends a single line to the journal file (the data file path with {@value #JOURNAL_SUFFIX} appended)
+ * that describes how the person list changed since the previous save, so the cost of a save is proportional to the
+ * size of the change rather than to the size of the address book. Once the journal holds
+ * {@code checkpointInterval} entries, the next save writes a full snapshot instead and starts a new journal.
+ * <p>
+ * Reading loads the snapshot and replays the journal entries that are newer than it. An incomplete last line,
+ * left behind if the application stopped while appending, is ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+    public static final String MESSAGE_CORRUPTED_JOURNAL = "Journal entry on line %d of %s is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+
+    // The persons stored at filePath as of the last read or save, or null if unknown
+    private List<Person> savedPersons;
+    private long lastSequence;
+    private int journalLength;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the data file at {@code filePath} that writes a snapshot
+     * every {@code checkpointInterval} saves.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        requireNonNull(filePath);
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<JsonSerializableAddressBook> snapshot = JsonSerializableAddressBook.readJsonFile(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>();
+        long sequence = 0;
+        int replayed = 0;
+        boolean isJournalComplete = true;
+        try {
+            if (snapshot.isPresent()) {
+                persons.addAll(snapshot.get().toModelType().getPersonList());
+                sequence = snapshot.get().getJournalSequence();
+            }
+
+            List<String> lines = Files.exists(journalFilePath)
+                    ? Files.readAllLines(journalFilePath, StandardCharsets.UTF_8)
+                    : List.of();
+            for (int i = 0; i < lines.size(); i++) {
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw new IllegalValueException(
+                                String.format(MESSAGE_CORRUPTED_JOURNAL, i + 1, journalFilePath), e);
+                    }
+                    logger.warning("Ignoring incomplete last entry of " + journalFilePath);
+                    isJournalComplete = false;
+                    break;
+                }
+                if (entry.getSequence() <= sequence) {
+                    continue; // already included in the snapshot
+                }
+                entry.applyTo(persons);
+                sequence = entry.getSequence();
+                replayed++;
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // An incomplete journal must not be appended to, so the next save writes a snapshot instead
+            savedPersons = isJournalComplete ? List.copyOf(persons) : null;
+            lastSequence = sequence;
+            journalLength = replayed;
+        }
+        logger.fine("Replayed " + replayed + " journal entries for " + filePath);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any other location than the data file of this storage always write a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath, 0);
+            return;
+        }
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (savedPersons == null || journalLength >= checkpointInterval) {
+            writeSnapshot(addressBook, filePath, lastSequence);
+            savedPersons = persons;
+            journalLength = 0;
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = diff(savedPersons, persons, lastSequence + 1);
+        if (entry == null) {
+            return;
+        }
+        byte[] line = (JsonUtil.toJsonLine(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(getJournalFilePath(filePath), line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The journal may now end with a partial entry, so the next save must write a snapshot instead
+            savedPersons = null;
+            throw e;
+        }
+        savedPersons = persons;
+        lastSequence = entry.getSequence();
+        journalLength++;
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} to {@code filePath} and then removes the journal of
+     * {@code filePath}, whose entries are all included in the snapshot.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath, long sequence)
+            throws IOException {
+        JsonSerializableAddressBook.saveJsonFile(addressBook, sequence, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the journal entry that turns {@code before} into {@code after}, or null if they hold the same persons.
+     * Since persons are immutable, unchanged persons are found by reference, and the entry covers the range between
+     * the longest common prefix and suffix of the two lists.
+     */
+    private static JsonAdaptedJournalEntry diff(List<Person> before, List<Person> after, long sequence) {
+        int prefix = 0;
+        int maxCommon = Math.min(before.size(), after.size());
+        while (prefix < maxCommon && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        if (prefix == before.size() && prefix == after.size()) {
+            return null;
+        }
+
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+        return JsonAdaptedJournalEntry.of(sequence, prefix, before.size() - prefix - suffix,
+                after.subList(prefix, after.size() - suffix));
+    }
+
+}
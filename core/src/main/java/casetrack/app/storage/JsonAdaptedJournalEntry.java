@@ -0,0 +1,71 @@
+package casetrack.app.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.person.Person;
+
+/**
+ * Jackson-friendly version of one entry of the journal kept by {@link JournaledAddressBookStorage}.
+ * An entry replaces {@code removed} persons starting at {@code index} of the person list with the
+ * {@code inserted} persons.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry %d does not fit the person list.";
+
+    private final long sequence;
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedPerson> inserted = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence, @JsonProperty("index") int index,
+            @JsonProperty("removed") int removed, @JsonProperty("inserted") List<JsonAdaptedPerson> inserted) {
+        this.sequence = sequence;
+        this.index = index;
+        this.removed = removed;
+        if (inserted != null) {
+            this.inserted.addAll(inserted);
+        }
+    }
+
+    /**
+     * Returns an entry that replaces {@code removed} persons starting at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalEntry of(long sequence, int index, int removed, List<Person> inserted) {
+        return new JsonAdaptedJournalEntry(sequence, index, removed,
+                inserted.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this entry to {@code persons}.
+     *
+     * @throws IllegalValueException if the entry does not fit {@code persons} or contains invalid persons.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, sequence));
+        }
+
+        List<Person> insertedPersons = new ArrayList<>(inserted.size());
+        for (JsonAdaptedPerson person : inserted) {
+            insertedPersons.add(person.toModelType());
+        }
+        persons.subList(index, index + removed).clear();
+        persons.addAll(index, insertedPersons);
+    }
+
+}
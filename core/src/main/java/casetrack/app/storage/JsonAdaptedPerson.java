@@ -0,0 +1,174 @@
+package casetrack.app.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.person.Address;
+import casetrack.app.model.person.Email;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.person.MedicalInfo;
+import casetrack.app.model.person.Name;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of {@link Person}.
+ */
+class JsonAdaptedPerson {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String income;
+    private final String medicalInfo;
+    private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    private final List<String> notes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     */
+    @JsonCreator
+    public JsonAdaptedPerson(@JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("income") String income,
+            @JsonProperty("medicalInfo") String medicalInfo,
+            @JsonProperty("tags") List<JsonAdaptedTag> tags,
+            @JsonProperty("notes") List<String> notes) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.income = income;
+        this.medicalInfo = medicalInfo;
+        if (tags != null) {
+            this.tags.addAll(tags);
+        }
+        if (notes != null) {
+            this.notes.addAll(notes);
+        }
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use.
+     */
+    public JsonAdaptedPerson(Person source) {
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        // Store income as raw numeric string to keep JSON parseable by Income.isValidIncome
+        income = source.getIncome().toPlainString();
+        medicalInfo = source.getMedicalInfo().toString();
+        tags.addAll(source.getTags().stream()
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList()));
+        notes.addAll(source.getNotes().stream()
+                .map(note -> note.value)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a message for every field of this adapted person that violates the data constraints, in field order.
+     * Invalid tags or notes are reported once per distinct message. Returns an empty list if all fields are valid.
+     */
+    public List<String> validate() {
+        Set<String> errors = new LinkedHashSet<>();
+        checkField(errors, name, Name::isValidName, Name.class.getSimpleName(), Name.MESSAGE_CONSTRAINTS);
+        checkField(errors, phone, Phone::isValidPhone, Phone.class.getSimpleName(), Phone.MESSAGE_CONSTRAINTS);
+        checkField(errors, email, Email::isValidEmail, Email.class.getSimpleName(), Email.MESSAGE_CONSTRAINTS);
+        checkField(errors, address, Address::isValidAddress, Address.class.getSimpleName(),
+                Address.MESSAGE_CONSTRAINTS);
+        checkField(errors, income, Income::isValidIncome, Income.class.getSimpleName(), Income.MESSAGE_CONSTRAINTS);
+        if (medicalInfo != null) {
+            checkField(errors, medicalInfo, MedicalInfo::isValidMedicalInfo, MedicalInfo.class.getSimpleName(),
+                    MedicalInfo.MESSAGE_CONSTRAINTS);
+        }
+        for (JsonAdaptedTag tag : tags) {
+            if (tag.getTagName() == null || !Tag.isValidTagName(tag.getTagName())) {
+                errors.add(Tag.MESSAGE_CONSTRAINTS);
+            }
+        }
+        for (String note : notes) {
+            checkField(errors, note, Note::isValidNote, Note.class.getSimpleName(), Note.MESSAGE_CONSTRAINTS);
+        }
+        return new ArrayList<>(errors);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     *     The message lists every violation, one per line.
+     */
+    public Person toModelType() throws IllegalValueException {
+        List<String> errors = validate();
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        return toValidatedModelType();
+    }
+
+    /**
+     * Converts this adapted person, which must have passed {@link #validate()}, into the model's {@code Person}
+     * object.
+     */
+    Person toValidatedModelType() {
+        List<Note> personNotes = new ArrayList<>(notes.size());
+        for (String note : notes) {
+            personNotes.add(new Note(note));
+        }
+
+        return new Person(new Name(name), new Phone(phone), new Email(email), Address.of(address),
+                new Income(income), toMedicalInfo(), toTags(), personNotes);
+    }
+
+    /**
+     * Converts this adapted person, which must have passed {@link #validate()}, into the model's {@code Person}
+     * object whose notes are loaded by {@code noteLoader} when first accessed. The notes of this adapted person
+     * are ignored.
+     */
+    Person toValidatedModelType(Supplier<? extends List<Note>> noteLoader) {
+        return new Person(new Name(name), new Phone(phone), new Email(email), Address.of(address),
+                new Income(income), toMedicalInfo(), toTags(), noteLoader);
+    }
+
+    private MedicalInfo toMedicalInfo() {
+        return MedicalInfo.of(medicalInfo != null ? medicalInfo : "-");
+    }
+
+    private Set<Tag> toTags() {
+        Set<Tag> personTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            personTags.add(Tag.of(tag.getTagName()));
+        }
+        return personTags;
+    }
+
+    /**
+     * Adds a message to {@code errors} if {@code value} is missing or rejected by {@code validator}.
+     */
+    private static void checkField(Set<String> errors, String value, Predicate<String> validator,
+            String typeName, String errorMessage) {
+        if (value == null) {
+            errors.add(String.format(MISSING_FIELD_MESSAGE_FORMAT, typeName));
+        } else if (!validator.test(value)) {
+            errors.add(errorMessage);
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package casetrack.app.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedAddressBookStorage}.
+ * The manifest names the current file of every shard, and records the shard of every person in the order of the
+ * person list. The shards of the persons are stored as one byte each, which Jackson writes as a single base64
+ * string. Manifests that list them as numbers, as older versions did, are still read.
+ */
+class JsonAdaptedShardManifest {
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+    private final byte[] order;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards, @JsonProperty("order") byte[] order) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        this.order = order != null ? order : new byte[0];
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    public byte[] getOrder() {
+        return order;
+    }
+
+}
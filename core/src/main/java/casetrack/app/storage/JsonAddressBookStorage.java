@@ -5,13 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.commons.exceptions.DataLoadingException;
-import casetrack.app.commons.exceptions.IllegalValueException;
-import casetrack.app.commons.util.FileUtil;
-import casetrack.app.commons.util.JsonUtil;
 import casetrack.app.model.ReadOnlyAddressBook;
 
 /**
@@ -19,8 +14,6 @@ import casetrack.app.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -45,18 +38,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        return JsonSerializableAddressBook.readJsonFile(filePath).map(JsonSerializableAddressBook::toModelType);
     }
 
     @Override
@@ -73,8 +55,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook.saveJsonFile(addressBook, 0, filePath);
     }
 
 }
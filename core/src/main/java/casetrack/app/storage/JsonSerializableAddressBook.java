@@ -0,0 +1,181 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+
+/**
+ * An AddressBook read from or written to JSON format.
+ * <p>
+ * The data is streamed with Jackson's {@code JsonParser} and {@code JsonGenerator}, converting persons between
+ * {@code Person} and {@code JsonAdaptedPerson} as they are read or written, so the file content is never held in
+ * memory. Files are gzip-compressed if their name ends with {@value #COMPRESSED_FILE_EXTENSION}, and compressed
+ * files are detected by their magic bytes when read.
+ */
+class JsonSerializableAddressBook {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_PERSON = "Person %d: %s";
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_JOURNAL_SEQUENCE = "journalSequence";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
+    private final AddressBook addressBook;
+
+    // Sequence number of the last journal entry included in this snapshot, see JournaledAddressBookStorage
+    private final long journalSequence;
+
+    private JsonSerializableAddressBook(AddressBook addressBook, long journalSequence) {
+        this.addressBook = addressBook;
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Returns the address book read from the file at {@code filePath}, or {@code Optional.empty()} if the file
+     * is not found.
+     *
+     * @throws DataLoadingException if the file is not valid JSON or contains invalid persons.
+     */
+    public static Optional<JsonSerializableAddressBook> readJsonFile(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            return Optional.of(read(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads an address book in JSON format from {@code in}.
+     *
+     * @throws IOException if the data is not valid JSON or does not have the structure of an address book.
+     * @throws IllegalValueException if there were any data constraints violated. All invalid fields of all persons
+     *     are reported, one per line.
+     */
+    public static JsonSerializableAddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+
+        ValidatingAddressBookBuilder builder = new ValidatingAddressBookBuilder();
+        long journalSequence = 0;
+
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (FIELD_JOURNAL_SEQUENCE.equals(field)) {
+                    expect(parser, value, JsonToken.VALUE_NUMBER_INT);
+                    journalSequence = parser.getLongValue();
+                    continue;
+                }
+                if (!FIELD_PERSONS.equals(field)) {
+                    parser.skipChildren(); // unknown fields are ignored, as in JsonUtil
+                    continue;
+                }
+
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                    builder.add(parser.readValueAs(JsonAdaptedPerson.class));
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+
+        return new JsonSerializableAddressBook(builder.build(), journalSequence);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Writes {@code source} to the file at {@code filePath} in JSON format, recording that it includes all journal
+     * entries up to {@code journalSequence}. The file is replaced atomically. If the file name ends with
+     * {@value #COMPRESSED_FILE_EXTENSION}, the content is gzip-compressed while it is written.
+     */
+    public static void saveJsonFile(ReadOnlyAddressBook source, long journalSequence, Path filePath)
+            throws IOException {
+        requireNonNull(source);
+        requireNonNull(filePath);
+
+        boolean isCompressed = filePath.getFileName().toString().endsWith(COMPRESSED_FILE_EXTENSION);
+        FileUtil.writeToFileAtomically(filePath, out -> write(source, journalSequence,
+                isCompressed ? new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE) : out));
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in JSON format, recording that it includes all journal entries up to
+     * {@code journalSequence}, which is omitted if it is 0. Closes {@code out}.
+     */
+    public static void write(ReadOnlyAddressBook source, long journalSequence, OutputStream out)
+            throws IOException {
+        requireNonNull(source);
+        requireNonNull(out);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FIELD_PERSONS);
+            for (Person person : source.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            if (journalSequence != 0) {
+                generator.writeNumberField(FIELD_JOURNAL_SEQUENCE, journalSequence);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry included in this snapshot, or 0 if there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the address book that was read.
+     */
+    public AddressBook toModelType() {
+        return addressBook;
+    }
+
+}
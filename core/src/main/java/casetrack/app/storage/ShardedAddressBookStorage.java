@@ -0,0 +1,333 @@
+package casetrack.app.storage;
+
+import static casetrack.app.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.exceptions.DuplicatePersonException;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A class to access AddressBook data stored in a directory of JSON shard files on the hard disk.
+ * <p>
+ * Persons are partitioned into a fixed number of shards by a hash of their name and phone, which identify a person,
+ * so that a person stays in the same shard when their other fields are edited and duplicate persons always end up in
+ * the same shard. Each shard is stored in the same JSON format as the whole address book of
+ * {@link JsonAddressBookStorage}. A manifest names the current file of every shard and records the shard of every
+ * person in the order of the person list.
+ * <p>
+ * A save only writes the shards whose persons changed since the last save or load, comparing persons by identity
+ * since they are immutable. Changed shards are written to new files, and the manifest is then replaced atomically,
+ * which commits the save. Superseded shard files are deleted afterwards, and files left behind by an interrupted save
+ * are deleted by the next save. Shards are read in parallel.
+ * <p>
+ * If the manifest does not exist yet, the data is read from a legacy storage instead (typically the JSON data file)
+ * and immediately written in shards.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final int MAX_SHARD_COUNT = 256;
+    public static final String MESSAGE_INCONSISTENT_SHARDS = "The shards in %s do not match their manifest.";
+
+    private static final String SHARD_FILE_PATTERN = "shard-*.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directory;
+    private final AddressBookStorage legacyStorage;
+    private final int shardCount;
+
+    // State of the shards in directory as of the last save or load, or null if it is not known. Guarded by this.
+    private List<List<Person>> savedShards;
+    private List<String> savedShardFiles;
+    private byte[] savedOrder;
+    private long generation;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the data in {@code directory} that partitions persons into
+     * {@code shardCount} shards, and converts the data in {@code legacyStorage} if there is no data yet.
+     */
+    public ShardedAddressBookStorage(Path directory, AddressBookStorage legacyStorage, int shardCount) {
+        requireNonNull(directory);
+        if (shardCount < 1 || shardCount > MAX_SHARD_COUNT) {
+            throw new IllegalArgumentException("There must be between 1 and " + MAX_SHARD_COUNT + " shards");
+        }
+        this.directory = directory;
+        this.legacyStorage = legacyStorage;
+        this.shardCount = shardCount;
+    }
+
+    public ShardedAddressBookStorage(Path directory, AddressBookStorage legacyStorage) {
+        this(directory, legacyStorage, DEFAULT_SHARD_COUNT);
+    }
+
+    public ShardedAddressBookStorage(Path directory) {
+        this(directory, null);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (Files.exists(directory.resolve(MANIFEST_FILE_NAME)) || legacyStorage == null) {
+            return readAddressBook(directory);
+        }
+
+        Optional<ReadOnlyAddressBook> legacyData = legacyStorage.readAddressBook();
+        if (legacyData.isPresent()) {
+            logger.info("Converting " + legacyStorage.getAddressBookFilePath() + " to " + directory);
+            try {
+                saveAddressBook(legacyData.get());
+            } catch (IOException e) {
+                logger.warning("Could not convert data to " + directory + ": " + e);
+            }
+        }
+        return legacyData;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but never converts legacy data.
+     *
+     * @param directory location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        Optional<JsonAdaptedShardManifest> manifest =
+                JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonAdaptedShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<List<Person>> shards = readShards(directory, manifest.get().getShards());
+            byte[] order = manifest.get().getOrder();
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(merge(shards, order, directory));
+
+            if (directory.equals(this.directory)) {
+                savedShards = shards.size() == shardCount ? shards : null;
+                savedShardFiles = manifest.get().getShards();
+                savedOrder = order;
+                generation = manifest.get().getGeneration();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from shards in " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException e) {
+            logger.info("Illegal values found in " + directory + ": " + e.getMessage());
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    /**
+     * Reads the persons in {@code shardFiles} in parallel.
+     */
+    private static List<List<Person>> readShards(Path directory, List<String> shardFiles)
+            throws IOException, IllegalValueException {
+        List<Callable<List<Person>>> tasks = new ArrayList<>();
+        for (String shardFile : shardFiles) {
+            tasks.add(() -> readShard(directory.resolve(shardFile)));
+        }
+
+        List<List<Person>> shards = new ArrayList<>();
+        for (Future<List<Person>> result : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                shards.add(result.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading " + directory, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IllegalValueException) {
+                    throw (IllegalValueException) e.getCause();
+                }
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+            }
+        }
+        return shards;
+    }
+
+    private static List<Person> readShard(Path shardFile) throws IOException, IllegalValueException {
+        try (InputStream in = FileUtil.newInputStream(shardFile)) {
+            return new ArrayList<>(JsonSerializableAddressBook.read(in).toModelType().getPersonList());
+        } catch (IllegalValueException ive) {
+            throw new IllegalValueException(shardFile.getFileName() + ": " + ive.getMessage());
+        }
+    }
+
+    /**
+     * Returns the persons in {@code shards} in the order given by {@code order}, which lists the shard of every person
+     * as an unsigned byte.
+     */
+    private static List<Person> merge(List<List<Person>> shards, byte[] order, Path directory) throws IOException {
+        List<Iterator<Person>> iterators = new ArrayList<>();
+        for (List<Person> shard : shards) {
+            iterators.add(shard.iterator());
+        }
+
+        List<Person> persons = new ArrayList<>(order.length);
+        for (byte shardByte : order) {
+            int shard = Byte.toUnsignedInt(shardByte);
+            if (shard < 0 || shard >= iterators.size() || !iterators.get(shard).hasNext()) {
+                throw new IOException(String.format(MESSAGE_INCONSISTENT_SHARDS, directory));
+            }
+            persons.add(iterators.get(shard).next());
+        }
+        for (Iterator<Person> iterator : iterators) {
+            if (iterator.hasNext()) {
+                throw new IOException(String.format(MESSAGE_INCONSISTENT_SHARDS, directory));
+            }
+        }
+        return persons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes all shards unless {@code directory} is
+     * the directory of this storage.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        List<Person> persons = addressBook.getPersonList();
+        List<List<Person>> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        byte[] order = new byte[persons.size()];
+        for (int i = 0; i < order.length; i++) {
+            int shard = shardOf(persons.get(i));
+            order[i] = (byte) shard;
+            shards.get(shard).add(persons.get(i));
+        }
+
+        boolean isTracked = directory.equals(this.directory) && savedShards != null;
+        List<String> shardFiles = isTracked ? new ArrayList<>(savedShardFiles) : new ArrayList<>();
+        long newGeneration = (isTracked ? generation : readGeneration(directory)) + 1;
+        int writtenShards = 0;
+        for (int i = 0; i < shardCount; i++) {
+            if (isTracked && isSameShard(savedShards.get(i), shards.get(i))) {
+                continue;
+            }
+            String shardFile = String.format("shard-%02d-%d.json", i, newGeneration);
+            ObservableList<Person> shardPersons = FXCollections.observableList(shards.get(i));
+            ReadOnlyAddressBook shard = () -> shardPersons;
+            FileUtil.writeToFileAtomically(directory.resolve(shardFile),
+                    out -> JsonSerializableAddressBook.write(shard, 0, out));
+            if (isTracked) {
+                shardFiles.set(i, shardFile);
+            } else {
+                shardFiles.add(shardFile);
+            }
+            writtenShards++;
+        }
+        if (writtenShards == 0 && Arrays.equals(order, savedOrder)) {
+            return;
+        }
+
+        JsonAdaptedShardManifest manifest = new JsonAdaptedShardManifest(newGeneration, shardFiles, order);
+        FileUtil.writeToFileAtomically(directory.resolve(MANIFEST_FILE_NAME), JsonUtil.toJsonString(manifest));
+        logger.fine("Wrote " + writtenShards + " of " + shardCount + " shards to " + directory);
+
+        if (directory.equals(this.directory)) {
+            savedShards = shards;
+            savedShardFiles = shardFiles;
+            savedOrder = order;
+            generation = newGeneration;
+        }
+        deleteUnusedShardFiles(directory, shardFiles);
+    }
+
+    /**
+     * Returns the generation of the manifest in {@code directory}, or 0 if there is no readable manifest. Shard files
+     * of a new generation never overwrite the files of the current manifest.
+     */
+    private static long readGeneration(Path directory) {
+        try {
+            return JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonAdaptedShardManifest.class)
+                    .map(JsonAdaptedShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the shard of {@code person}, which only depends on the fields that identify the person.
+     */
+    private int shardOf(Person person) {
+        return Math.floorMod(31 * person.getName().hashCode() + person.getPhone().hashCode(), shardCount);
+    }
+
+    private static boolean isSameShard(List<Person> saved, List<Person> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void deleteUnusedShardFiles(Path directory, List<String> shardFiles) {
+        Set<String> usedFiles = new HashSet<>(shardFiles);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SHARD_FILE_PATTERN)) {
+            for (Path file : files) {
+                if (!usedFiles.contains(file.getFileName().toString())) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            // the files are deleted by the next save instead
+            logger.warning("Could not delete unused shard files in " + directory + ": " + e);
+        }
+    }
+}
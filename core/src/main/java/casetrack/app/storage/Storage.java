@@ -3,6 +3,7 @@ package casetrack.app.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import casetrack.app.commons.exceptions.DataLoadingException;
 import casetrack.app.model.ReadOnlyAddressBook;
@@ -29,4 +30,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until all address book data passed to {@link #saveAddressBook(ReadOnlyAddressBook)} has been written.
+     *
+     * @throws IOException if the last write failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler that is notified of failures to write address book data in the background, after the save
+     * that requested the write has returned. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
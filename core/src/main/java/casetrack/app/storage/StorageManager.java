@@ -3,6 +3,7 @@ package casetrack.app.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.LogsCenter;
@@ -75,4 +76,18 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Does nothing, as saves are written before {@code saveAddressBook} returns.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Does nothing, as failed saves throw from {@code saveAddressBook} instead.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+    }
+
 }
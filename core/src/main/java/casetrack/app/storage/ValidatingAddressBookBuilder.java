@@ -0,0 +1,128 @@
+package casetrack.app.storage;
+
+import static casetrack.app.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static casetrack.app.storage.JsonSerializableAddressBook.MESSAGE_INVALID_PERSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Builds an {@code AddressBook} from adapted persons that are read from storage one at a time.
+ * <p>
+ * Every person is validated, and all invalid fields of all persons are reported together by {@link #build()}, in
+ * the order in which the persons were added. Duplicate persons are only reported if all persons are valid.
+ * <p>
+ * Validating and converting persons is CPU-bound, so added persons are collected in chunks that are converted on
+ * the common fork-join pool while the remaining persons are still being read. The last chunk is converted by
+ * {@link #build()} on the calling thread, so small address books are converted without any hand-off.
+ */
+class ValidatingAddressBookBuilder {
+
+    static final int CHUNK_SIZE = 512;
+
+    private final List<ForkJoinTask<Chunk>> convertedChunks = new ArrayList<>();
+    private Chunk chunk = new Chunk(1);
+    private int count;
+
+    /**
+     * Validates {@code adaptedPerson} and adds it to the address book.
+     */
+    public void add(JsonAdaptedPerson adaptedPerson) {
+        add(adaptedPerson, null);
+    }
+
+    /**
+     * Validates {@code adaptedPerson} and adds it to the address book with notes that are loaded by
+     * {@code noteLoader} when first accessed, or with the notes of {@code adaptedPerson} if {@code noteLoader} is
+     * null. Lazily loaded notes are not validated, so the caller must have checked them.
+     */
+    public void add(JsonAdaptedPerson adaptedPerson, Supplier<? extends List<Note>> noteLoader) {
+        count++;
+        chunk.adaptedPersons.add(adaptedPerson);
+        chunk.noteLoaders.add(noteLoader);
+        if (chunk.adaptedPersons.size() == CHUNK_SIZE) {
+            Chunk fullChunk = chunk;
+            convertedChunks.add(ForkJoinPool.commonPool().submit(() -> fullChunk.convert()));
+            chunk = new Chunk(count + 1);
+        }
+    }
+
+    /**
+     * Returns the address book holding all added persons.
+     *
+     * @throws IllegalValueException if any person was invalid, or if there were duplicate persons.
+     */
+    public AddressBook build() throws IllegalValueException {
+        List<Chunk> chunks = new ArrayList<>();
+        for (ForkJoinTask<Chunk> convertedChunk : convertedChunks) {
+            chunks.add(convertedChunk.join());
+        }
+        chunks.add(chunk.convert());
+
+        List<String> errors = new ArrayList<>();
+        List<Person> persons = new ArrayList<>(count);
+        for (Chunk convertedChunk : chunks) {
+            errors.addAll(convertedChunk.errors);
+            persons.addAll(convertedChunk.persons);
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * A run of consecutive adapted persons, and the result of converting them.
+     */
+    private static class Chunk {
+        private final int firstNumber;
+        private final List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        private final List<Supplier<? extends List<Note>>> noteLoaders = new ArrayList<>();
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        /**
+         * Creates an empty chunk whose first person is person {@code firstNumber} of the address book.
+         */
+        Chunk(int firstNumber) {
+            this.firstNumber = firstNumber;
+        }
+
+        /**
+         * Validates the adapted persons of this chunk, and converts them if they are all valid.
+         */
+        Chunk convert() {
+            for (int i = 0; i < adaptedPersons.size(); i++) {
+                JsonAdaptedPerson adaptedPerson = adaptedPersons.get(i);
+                for (String error : adaptedPerson.validate()) {
+                    errors.add(String.format(MESSAGE_INVALID_PERSON, firstNumber + i, error));
+                }
+                if (errors.isEmpty()) {
+                    Supplier<? extends List<Note>> noteLoader = noteLoaders.get(i);
+                    persons.add(noteLoader == null
+                            ? adaptedPerson.toValidatedModelType()
+                            : adaptedPerson.toValidatedModelType(noteLoader));
+                }
+            }
+            adaptedPersons.clear();
+            noteLoaders.clear();
+            return this;
+        }
+    }
+}
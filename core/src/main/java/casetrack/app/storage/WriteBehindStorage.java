@@ -0,0 +1,292 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.StringUtil;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.ReadOnlyUserPrefs;
+import casetrack.app.model.UserPrefs;
+
+/**
+ * A {@code Storage} that saves address book data in the background.
+ * <p>
+ * {@link #saveAddressBook(ReadOnlyAddressBook)} only takes a snapshot of the persons and returns. A single writer
+ * thread passes the snapshots to the wrapped {@code Storage}. Saves that arrive while a snapshot is waiting to be
+ * written replace it, so a burst of commands results in a single write of the latest data (group commit). A
+ * snapshot is written once no new save has arrived for {@code groupCommitDelay}, but at most {@code maxDelay} after
+ * the first unwritten save.
+ * <p>
+ * A failed write is passed to the handler set with {@link #setSaveFailureHandler(Consumer)}. If there is no
+ * handler, it is thrown from the next call to {@code saveAddressBook} instead. The snapshot that failed to be written
+ * is kept until a newer save replaces it, and is written again by {@link #flush()} and {@link #close()}, so that
+ * data is not lost when the failure is temporary. User prefs are saved synchronously.
+ */
+public class WriteBehindStorage implements Storage {
+
+    public static final Duration DEFAULT_GROUP_COMMIT_DELAY = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final long groupCommitDelayNanos;
+    private final long maxDelayNanos;
+    private final Thread writer;
+
+    // All fields below are guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyAddressBook failedAddressBook;
+    private long firstPendingNanos;
+    private long lastPendingNanos;
+    private boolean isWriting;
+    private int flushRequests;
+    private boolean isClosed;
+    private IOException lastWriteFailure;
+    private IOException unreportedFailure;
+    private Consumer<IOException> saveFailureHandler;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes address book data to {@code storage} with the given delays.
+     */
+    public WriteBehindStorage(Storage storage, Duration groupCommitDelay, Duration maxDelay) {
+        requireNonNull(storage);
+        requireNonNull(groupCommitDelay);
+        requireNonNull(maxDelay);
+        if (groupCommitDelay.isNegative() || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Delays must not be negative");
+        }
+        this.storage = storage;
+        this.groupCommitDelayNanos = groupCommitDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+
+        writer = new Thread(this::runWriter, "address-book-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public WriteBehindStorage(Storage storage) {
+        this(storage, DEFAULT_GROUP_COMMIT_DELAY, DEFAULT_MAX_DELAY);
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written in the background.
+     *
+     * @throws IOException if an earlier write failed and there is no save failure handler to report it to.
+     *     The snapshot is queued regardless.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (isClosed) {
+            throw new IllegalStateException("Storage is closed");
+        }
+
+        long now = System.nanoTime();
+        if (pendingAddressBook == null) {
+            firstPendingNanos = now;
+        }
+        lastPendingNanos = now;
+        pendingAddressBook = addressBook.getSnapshot();
+        failedAddressBook = null;
+        notifyAll();
+
+        if (unreportedFailure != null) {
+            IOException failure = unreportedFailure;
+            unreportedFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} before returning, after all queued snapshots have been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Waits until all queued snapshots have been written. A snapshot whose write failed, and that has not been
+     * replaced by a newer one since, is written again first.
+     *
+     * @throws IOException if the last write failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            flushRequests++;
+            if (failedAddressBook != null && pendingAddressBook == null) {
+                firstPendingNanos = lastPendingNanos = System.nanoTime();
+                pendingAddressBook = failedAddressBook;
+                failedAddressBook = null;
+            }
+            notifyAll();
+            try {
+                while (pendingAddressBook != null || isWriting) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+            } finally {
+                flushRequests--;
+            }
+
+            if (lastWriteFailure != null) {
+                throw lastWriteFailure;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void setSaveFailureHandler(Consumer<IOException> handler) {
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Writes all queued snapshots, retrying a failed one as {@link #flush()} does, and stops the writer thread. No more
+     * address book data can be saved afterwards.
+     *
+     * @throws IOException if the last write failed, in which case its data is lost.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                isClosed = true;
+                notifyAll();
+            }
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            try {
+                addressBook = takeNextSnapshot();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (addressBook == null) {
+                return;
+            }
+
+            IOException failure = null;
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException(e);
+            }
+            reportWriteResult(addressBook, failure);
+        }
+    }
+
+    /**
+     * Waits until a snapshot is due to be written and returns it, or returns null once the storage is closed and
+     * there is nothing left to write.
+     */
+    private synchronized ReadOnlyAddressBook takeNextSnapshot() throws InterruptedException {
+        while (pendingAddressBook == null && !isClosed) {
+            wait();
+        }
+        while (pendingAddressBook != null && flushRequests == 0 && !isClosed) {
+            long deadline = Math.min(lastPendingNanos + groupCommitDelayNanos, firstPendingNanos + maxDelayNanos);
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+
+        ReadOnlyAddressBook addressBook = pendingAddressBook;
+        pendingAddressBook = null;
+        isWriting = addressBook != null;
+        return addressBook;
+    }
+
+    /**
+     * Reports the outcome of writing {@code addressBook} and wakes up threads waiting for it. If the write failed and
+     * no newer snapshot is pending, {@code addressBook} is kept to be written again. The handler is called before
+     * {@link #flush()} returns, but without holding the lock, so it may call back into this storage.
+     */
+    private void reportWriteResult(ReadOnlyAddressBook addressBook, IOException failure) {
+        Consumer<IOException> handler = null;
+        if (failure != null) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(failure));
+            synchronized (this) {
+                handler = saveFailureHandler;
+            }
+            if (handler != null) {
+                handler.accept(failure);
+            }
+        }
+
+        synchronized (this) {
+            isWriting = false;
+            lastWriteFailure = failure;
+            if (failure != null && pendingAddressBook == null) {
+                failedAddressBook = addressBook;
+            }
+            if (failure != null && handler == null) {
+                unreportedFailure = failure;
+            }
+            notifyAll();
+        }
+    }
+}
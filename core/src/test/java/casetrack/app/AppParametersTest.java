@@ -5,44 +5,67 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.application.Application;
-
 public class AppParametersTest {
 
-    private final ParametersStub parametersStub = new ParametersStub();
+    private final Map<String, String> namedParameters = new HashMap<>();
     private final AppParameters expected = new AppParameters();
 
     @Test
     public void parse_validConfigPath_success() {
-        parametersStub.namedParameters.put("config", "config.json");
+        namedParameters.put("config", "config.json");
         expected.setConfigPath(Paths.get("config.json"));
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_nullConfigPath_success() {
-        parametersStub.namedParameters.put("config", null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        namedParameters.put("config", null);
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_invalidConfigPath_success() {
-        parametersStub.namedParameters.put("config", "a\0");
+        namedParameters.put("config", "a\0");
         expected.setConfigPath(null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
+    @Test
+    public void parse_namedParameters_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Map.of("config", "config.json")));
+        assertEquals(new AppParameters(), AppParameters.parse(Map.of()));
+    }
+
+    @Test
+    public void parse_validApiPort_success() {
+        namedParameters.put("api-port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
+    @Test
+    public void parse_invalidApiPort_success() {
+        namedParameters.put("api-port", "http");
+        assertEquals(expected, AppParameters.parse(namedParameters));
+
+        namedParameters.put("api-port", "0");
+        assertEquals(expected, AppParameters.parse(namedParameters));
+
+        namedParameters.put("api-port", "65536");
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", apiPort=" + appParameters.getApiPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,24 +89,10 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
-    }
 
-    private static class ParametersStub extends Application.Parameters {
-        private Map<String, String> namedParameters = new HashMap<>();
-
-        @Override
-        public List<String> getRaw() {
-            throw new AssertionError("should not be called");
-        }
-
-        @Override
-        public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
-        }
-
-        @Override
-        public Map<String, String> getNamed() {
-            return Collections.unmodifiableMap(namedParameters);
-        }
+        // different API port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setApiPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 }
@@ -0,0 +1,99 @@
+package casetrack.app;
+
+import static casetrack.app.testutil.TypicalPersons.AMY;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.logic.LogicManager;
+import casetrack.app.logic.Messages;
+import casetrack.app.logic.commands.AddCommand;
+import casetrack.app.logic.commands.ExitCommand;
+import casetrack.app.logic.commands.ListCommand;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.storage.JsonAddressBookStorage;
+import casetrack.app.storage.JsonUserPrefsStorage;
+import casetrack.app.storage.StorageManager;
+import casetrack.app.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model;
+    private JsonAddressBookStorage addressBookStorage;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("casetrack.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        app = new HeadlessApp(new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage)),
+                new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    @Test
+    public void run_validCommands_resultsPrintedAndSaved() throws Exception {
+        int exitStatus = run("# onboarding", "", PersonUtil.getAddCommand(AMY), "  list  ");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertEquals(lines(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals("", err.toString());
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(AMY);
+        assertEquals(expected, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_failingCommand_errorPrintedAndLaterCommandsRun() throws Exception {
+        int exitStatus = run("unknown", "list");
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, exitStatus);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals(lines(Messages.MESSAGE_UNKNOWN_COMMAND), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        int exitStatus = run("exit", "list");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), out.toString());
+    }
+
+    @Test
+    public void run_interactive_promptPrintedBeforeEveryCommand() throws Exception {
+        app.run(new BufferedReader(new StringReader(lines("list"))), true);
+        assertEquals("> " + lines(ListCommand.MESSAGE_SUCCESS) + "> ", out.toString());
+    }
+
+    private int run(String... commands) throws Exception {
+        return app.run(new BufferedReader(new StringReader(lines(commands))), false);
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,284 @@
+package casetrack.app.api;
+
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static casetrack.app.testutil.TypicalPersons.getTypicalPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.logic.Logic;
+import casetrack.app.logic.LogicManager;
+import casetrack.app.logic.Messages;
+import casetrack.app.logic.commands.DeletePatientCommand;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Person;
+import casetrack.app.storage.JsonAddressBookStorage;
+import casetrack.app.storage.JsonUserPrefsStorage;
+import casetrack.app.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final String TOKEN = "secret-token";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Logic logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+        server = new ApiServer(logic, Runnable::run, 0, TOKEN);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getPatients_noName_allPatients() throws Exception {
+        assertResponse(200, toJson(getTypicalPersons()), send("GET", ApiServer.PATIENTS_PATH, null));
+    }
+
+    @Test
+    public void getPatients_name_matchingPatientsWithIndices() throws Exception {
+        String expected = JsonUtil.toJsonLine(List.of(new JsonApiPerson(2, BENSON), new JsonApiPerson(4, DANIEL)));
+        assertResponse(200, expected, send("GET", ApiServer.PATIENTS_PATH + "?name=meier", null));
+        assertResponse(200, JsonUtil.toJsonLine(List.of(new JsonApiPerson(1, ALICE), new JsonApiPerson(2, BENSON))),
+                send("GET", ApiServer.PATIENTS_PATH + "?name=alice+benson", null));
+        assertResponse(200, "[]", send("GET", ApiServer.PATIENTS_PATH + "?name=nobody", null));
+    }
+
+    @Test
+    public void getPatient_validIndex_patient() throws Exception {
+        assertResponse(200, JsonUtil.toJsonLine(new JsonApiPerson(2, BENSON)),
+                send("GET", ApiServer.PATIENTS_PATH + "/2", null));
+    }
+
+    @Test
+    public void getPatient_indexOutOfRange_notFound() throws Exception {
+        int outOfRange = getTypicalPersons().size() + 1;
+        assertResponse(404, toError(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX),
+                send("GET", ApiServer.PATIENTS_PATH + "/" + outOfRange, null));
+    }
+
+    @Test
+    public void getPatient_invalidIndex_badRequest() throws Exception {
+        assertResponse(400, toError(String.format(ApiServer.MESSAGE_INVALID_INDEX, "0")),
+                send("GET", ApiServer.PATIENTS_PATH + "/0", null));
+        assertResponse(400, toError(String.format(ApiServer.MESSAGE_INVALID_INDEX, "alice")),
+                send("GET", ApiServer.PATIENTS_PATH + "/alice", null));
+    }
+
+    @Test
+    public void postCommand_validCommand_executed() throws Exception {
+        String expectedFeedback = String.format(DeletePatientCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(ALICE));
+        assertResponse(200, JsonUtil.toJsonLine(Map.of("feedback", expectedFeedback)),
+                send("POST", ApiServer.COMMANDS_PATH, "delete patient 1"));
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.remove(ALICE);
+        assertResponse(200, toJson(expectedPersons), send("GET", ApiServer.PATIENTS_PATH, null));
+    }
+
+    @Test
+    public void postCommand_afterSearch_indexInFullList() throws Exception {
+        send("POST", ApiServer.COMMANDS_PATH, "search name meier");
+        assertResponse(200, JsonUtil.toJsonLine(List.of(new JsonApiPerson(2, BENSON), new JsonApiPerson(4, DANIEL))),
+                send("GET", ApiServer.PATIENTS_PATH + "?name=meier", null));
+
+        // index 4 is out of range in the filtered list, which holds only BENSON and DANIEL
+        String expectedFeedback = String.format(DeletePatientCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(DANIEL));
+        assertResponse(200, JsonUtil.toJsonLine(Map.of("feedback", expectedFeedback)),
+                send("POST", ApiServer.COMMANDS_PATH, "delete patient 4"));
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.remove(DANIEL);
+        assertResponse(200, toJson(expectedPersons), send("GET", ApiServer.PATIENTS_PATH, null));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        assertResponse(400, toError(Messages.MESSAGE_UNKNOWN_COMMAND),
+                send("POST", ApiServer.COMMANDS_PATH, "unknown"));
+        assertResponse(400, toError(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX),
+                send("POST", ApiServer.COMMANDS_PATH, "delete patient 99"));
+        assertResponse(400, toError(ApiServer.MESSAGE_EMPTY_COMMAND), send("POST", ApiServer.COMMANDS_PATH, " "));
+    }
+
+    @Test
+    public void send_wrongMethod_methodNotAllowed() throws Exception {
+        assertResponse(405, toError(String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED, "POST",
+                ApiServer.PATIENTS_PATH)), send("POST", ApiServer.PATIENTS_PATH, "list"));
+        assertResponse(405, toError(String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED, "GET",
+                ApiServer.COMMANDS_PATH)), send("GET", ApiServer.COMMANDS_PATH, null));
+    }
+
+    @Test
+    public void send_unknownPath_notFound() throws Exception {
+        assertResponse(404, toError(String.format(ApiServer.MESSAGE_NOT_FOUND, "/api/other")),
+                send("GET", "/api/other", null));
+        assertResponse(404, toError(String.format(ApiServer.MESSAGE_NOT_FOUND, "/api/patientsx")),
+                send("GET", "/api/patientsx", null));
+    }
+
+    @Test
+    public void send_concurrentReadsAndCommands_allAnswered() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(client.sendAsync(request("GET", ApiServer.PATIENTS_PATH + "?name=meier", null).build(),
+                    HttpResponse.BodyHandlers.ofString()));
+            responses.add(client.sendAsync(request("POST", ApiServer.COMMANDS_PATH, "list").build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+    }
+
+    @Test
+    public void send_missingOrWrongToken_unauthorized() throws Exception {
+        HttpResponse<String> response = client.send(request("POST", ApiServer.COMMANDS_PATH, "delete patient 1")
+                .setHeader("Authorization", "Bearer wrong-token").build(), HttpResponse.BodyHandlers.ofString());
+        assertResponse(401, toError(ApiServer.MESSAGE_UNAUTHORIZED), response);
+        assertEquals("Bearer", response.headers().firstValue("WWW-Authenticate").get());
+
+        HttpRequest noToken = HttpRequest.newBuilder(uri(ApiServer.PATIENTS_PATH)).build();
+        assertResponse(401, toError(ApiServer.MESSAGE_UNAUTHORIZED),
+                client.send(noToken, HttpResponse.BodyHandlers.ofString()));
+
+        // nothing was deleted
+        assertResponse(200, toJson(getTypicalPersons()), send("GET", ApiServer.PATIENTS_PATH, null));
+    }
+
+    @Test
+    public void send_originHeader_forbidden() throws Exception {
+        HttpRequest fromWebPage = request("POST", ApiServer.COMMANDS_PATH, "delete patient 1")
+                .setHeader("Origin", "http://evil.example").build();
+        assertResponse(403, toError(ApiServer.MESSAGE_ORIGIN_NOT_ALLOWED),
+                client.send(fromWebPage, HttpResponse.BodyHandlers.ofString()));
+        assertResponse(200, toJson(getTypicalPersons()), send("GET", ApiServer.PATIENTS_PATH, null));
+    }
+
+    @Test
+    public void send_otherHost_forbidden() throws Exception {
+        // the HTTP client does not allow setting the Host header, as a browser after a DNS rebinding would send it
+        String host = "evil.example:" + server.getAddress().getPort();
+        try (Socket socket = new Socket(server.getAddress().getAddress(), server.getAddress().getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + ApiServer.PATIENTS_PATH + " HTTP/1.1\r\nHost: " + host + "\r\nAuthorization: Bearer "
+                    + TOKEN + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String response = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(response.startsWith("HTTP/1.1 403 "), response);
+            assertTrue(response.endsWith(toError(String.format(ApiServer.MESSAGE_HOST_NOT_ALLOWED, host))), response);
+        }
+    }
+
+    @Test
+    public void isLoopbackHost() {
+        assertTrue(ApiServer.isLoopbackHost("localhost"));
+        assertTrue(ApiServer.isLoopbackHost("LocalHost:8080"));
+        assertTrue(ApiServer.isLoopbackHost("127.0.0.1:8080"));
+        assertTrue(ApiServer.isLoopbackHost("[::1]"));
+        assertTrue(ApiServer.isLoopbackHost("[::1]:8080"));
+
+        assertFalse(ApiServer.isLoopbackHost(""));
+        assertFalse(ApiServer.isLoopbackHost("evil.example:8080"));
+        assertFalse(ApiServer.isLoopbackHost("localhost.evil.example"));
+        assertFalse(ApiServer.isLoopbackHost("127.0.0.2"));
+    }
+
+    @Test
+    public void generateToken_newTokenEveryTime() {
+        String token = ApiServer.generateToken();
+        assertTrue(token.length() >= 43, token); // 256 bits in base64
+        assertNotEquals(token, ApiServer.generateToken());
+    }
+
+    @Test
+    public void writeTokenFile_replacesTokenReadableByOwnerOnly() throws Exception {
+        Path tokenFile = ApiServer.getTokenFile(temporaryFolder.resolve("data").resolve("ab.json"));
+        assertEquals(temporaryFolder.resolve("data").resolve(ApiServer.TOKEN_FILE_NAME).toAbsolutePath(), tokenFile);
+
+        ApiServer.writeTokenFile(tokenFile, "first");
+        ApiServer.writeTokenFile(tokenFile, TOKEN);
+        assertEquals(TOKEN, Files.readString(tokenFile));
+        if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(tokenFile));
+        }
+    }
+
+    @Test
+    public void parseQuery() {
+        assertEquals(Map.of(), ApiServer.parseQuery(null));
+        assertEquals(Map.of("name", "alice benson", "flag", ""), ApiServer.parseQuery("name=alice+benson&flag"));
+        assertEquals(Map.of("name", "a&b"), ApiServer.parseQuery("name=a%26b&name=c"));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private HttpRequest.Builder request(String method, String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + TOKEN)
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        return client.send(request(method, path, body).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void assertResponse(int expectedStatus, String expectedBody, HttpResponse<String> response) {
+        assertEquals(expectedStatus, response.statusCode());
+        assertEquals(expectedBody, response.body());
+        assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").get());
+    }
+
+    private static String toJson(List<Person> persons) throws Exception {
+        List<JsonApiPerson> jsonPersons = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            jsonPersons.add(new JsonApiPerson(i + 1, persons.get(i)));
+        }
+        return JsonUtil.toJsonLine(jsonPersons);
+    }
+
+    private static String toError(String message) throws Exception {
+        return JsonUtil.toJsonLine(Map.of("error", message));
+    }
+}
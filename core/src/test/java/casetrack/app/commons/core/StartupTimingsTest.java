@@ -0,0 +1,42 @@
+package casetrack.app.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimingsTest {
+
+    @Test
+    public void format_noPhases_emptyString() {
+        assertEquals("", new StartupTimings().format());
+    }
+
+    @Test
+    public void record_phases_keptInOrderRecorded() {
+        StartupTimings startupTimings = new StartupTimings();
+        long start = System.nanoTime();
+        startupTimings.record("config", start);
+        startupTimings.record("ui", start);
+        startupTimings.record("config", start); // replaces the earlier timing without moving it
+
+        Map<String, Long> phaseNanos = startupTimings.getPhaseNanos();
+        assertEquals(List.of("config", "ui"), List.copyOf(phaseNanos.keySet()));
+        assertTrue(phaseNanos.values().stream().allMatch(nanos -> nanos >= 0));
+    }
+
+    @Test
+    public void format_phases_oneLinePerPhase() {
+        StartupTimings startupTimings = new StartupTimings();
+        startupTimings.record("config", System.nanoTime());
+        startupTimings.record("ui", System.nanoTime());
+
+        String[] lines = startupTimings.format().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].matches("config: \\d+[.,]\\d ms"));
+        assertTrue(lines[1].matches("ui: \\d+[.,]\\d ms"));
+    }
+}
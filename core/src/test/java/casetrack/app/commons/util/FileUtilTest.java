@@ -0,0 +1,91 @@
+package casetrack.app.commons.util;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileUtilTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isValidPath() {
+        // valid path
+        assertTrue(FileUtil.isValidPath("valid/file/path"));
+
+        // invalid path
+        assertFalse(FileUtil.isValidPath("a\0"));
+
+        // null path -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
+    }
+
+    @Test
+    public void writeToFileAtomically_replacesContentAndCreatesParents() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(1, files.count()); // no temporary file is left behind
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_keepsContentAndDeletesTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "first");
+
+        assertThrows(IOException.class, "disk full", () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        try (var files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void newInputStream_plainAndCompressedFiles_readsContent() throws Exception {
+        Path plainFile = testFolder.resolve("plain.txt");
+        Path compressedFile = testFolder.resolve("compressed.txt");
+        FileUtil.writeToFile(plainFile, "content");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressedFile))) {
+            out.write("content".getBytes(StandardCharsets.UTF_8));
+        }
+
+        for (Path file : List.of(plainFile, compressedFile)) {
+            try (InputStream in = FileUtil.newInputStream(file)) {
+                assertEquals("content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void newInputStream_tinyFile_readsContent() throws Exception {
+        Path file = testFolder.resolve("tiny.txt");
+        FileUtil.writeToFile(file, "\u001f");
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals("\u001f", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+}
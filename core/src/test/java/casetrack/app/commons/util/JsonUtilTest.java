@@ -1,6 +1,7 @@
 package casetrack.app.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -38,4 +39,16 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
+
+    @Test
+    public void toJsonLine_fitsOnSingleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        String json = JsonUtil.toJsonLine(serializableTestClass);
+
+        assertFalse(json.contains("\n"));
+        SerializableTestClass deserialized = JsonUtil.fromJsonString(json, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), deserialized.getName());
+    }
 }
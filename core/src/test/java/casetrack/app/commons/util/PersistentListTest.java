@@ -0,0 +1,108 @@
+package casetrack.app.commons.util;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(List.of(), PersistentList.empty());
+    }
+
+    @Test
+    public void copyOf_keepsIterationOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        assertEquals(elements, PersistentList.copyOf(elements));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void plus_appendsWithoutChangingOriginal() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b"));
+        PersistentList<String> updated = original.plus("c");
+
+        assertEquals(List.of("a", "b"), original);
+        assertEquals(List.of("a", "b", "c"), updated);
+    }
+
+    @Test
+    public void minus_removesWithoutChangingOriginal() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        PersistentList<String> updated = original.minus(1);
+
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("a", "c"), updated);
+    }
+
+    @Test
+    public void with_replacesWithoutChangingOriginal() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        PersistentList<String> updated = original.with(2, "z");
+
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("a", "b", "z"), updated);
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+    }
+
+    @Test
+    public void listMutators_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+}
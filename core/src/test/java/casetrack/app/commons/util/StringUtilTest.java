@@ -140,4 +140,37 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for character class helpers --------------------------------------
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertTrue(StringUtil.isAsciiAlphanumeric('a'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('Z'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('7'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('_'));
+        assertFalse(StringUtil.isAsciiAlphanumeric(' '));
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00e9')); // non-ASCII letter
+    }
+
+    @Test
+    public void isAsciiWhitespace() {
+        assertTrue(StringUtil.isAsciiWhitespace(' '));
+        assertTrue(StringUtil.isAsciiWhitespace('\t'));
+        assertTrue(StringUtil.isAsciiWhitespace('\n'));
+        assertFalse(StringUtil.isAsciiWhitespace('a'));
+        assertFalse(StringUtil.isAsciiWhitespace('\u00a0')); // non-breaking space
+    }
+
+    @Test
+    public void isSingleLine() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isSingleLine(null, 0));
+
+        assertTrue(StringUtil.isSingleLine("", 0));
+        assertTrue(StringUtil.isSingleLine("one line", 0));
+        assertTrue(StringUtil.isSingleLine("\none line", 1)); // line terminator before fromIndex
+        assertFalse(StringUtil.isSingleLine("two\nlines", 0));
+        assertFalse(StringUtil.isSingleLine("two\rlines", 0));
+        assertFalse(StringUtil.isSingleLine("two\u2028lines", 0));
+    }
+
 }
@@ -0,0 +1,344 @@
+package casetrack.app.logic;
+
+import static casetrack.app.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static casetrack.app.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static casetrack.app.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static casetrack.app.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static casetrack.app.logic.commands.CommandTestUtil.INCOME_DESC_AMY;
+import static casetrack.app.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static casetrack.app.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.AMY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.logic.commands.AddCommand;
+import casetrack.app.logic.commands.CommandResult;
+import casetrack.app.logic.commands.FindCommand;
+import casetrack.app.logic.commands.ListCommand;
+import casetrack.app.logic.commands.UndoCommand;
+import casetrack.app.logic.commands.exceptions.CommandException;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Person;
+import casetrack.app.storage.JsonAddressBookStorage;
+import casetrack.app.storage.JsonUserPrefsStorage;
+import casetrack.app.storage.StorageManager;
+import casetrack.app.storage.WriteBehindStorage;
+import casetrack.app.testutil.PersonBuilder;
+
+public class LogicManagerTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+    private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("casetrack.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void execute_invalidCommandFormat_throwsParseException() {
+        String invalidCommand = "uicfhmowqewca";
+        assertParseException(invalidCommand, MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    @Test
+    public void execute_commandExecutionError_throwsCommandException() {
+        String deleteCommand = "delete patient 9";
+        assertCommandException(deleteCommand, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_validCommand_success() throws Exception {
+        String listCommand = ListCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_undoAfterModifyingCommand_restoresModel() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_throwsCommandException() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_storageThrowsAdException_throwsCommandException() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_readOnlyCommands_saveOnlyAfterChanges() throws Exception {
+        List<ReadOnlyAddressBook> saves = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                saves.add(addressBook);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // the initial data is saved once, in case it is not in storage yet
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saves.size());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saves.size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(3, saves.size());
+    }
+
+    @Test
+    public void setSaveFailureHandler_backgroundSaveFails_handlerReceivesErrorMessage() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+        logic = new LogicManager(model, storage);
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(IOException.class, storage::close);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage())), messages);
+    }
+
+    @Test
+    public void execute_afterBackgroundSaveFailed_savesAgainWithoutChanges() throws Exception {
+        List<ReadOnlyAddressBook> saves = new ArrayList<>();
+        List<Consumer<IOException>> failureHandlers = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                // only queued, as by a storage that saves in the background
+                saves.add(addressBook);
+            }
+
+            @Override
+            public void setSaveFailureHandler(Consumer<IOException> handler) {
+                failureHandlers.add(handler);
+            }
+        });
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saves.size());
+
+        failureHandlers.forEach(handler -> handler.accept(DUMMY_IO_EXCEPTION));
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                messages);
+
+        // the failed save is retried by the next command, although it does not change the address book
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saves.size());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailedWithoutHandler_nextCommandThrowsCommandException() throws Exception {
+        List<IOException> failures = new ArrayList<>(List.of(DUMMY_IO_EXCEPTION));
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                if (!failures.isEmpty()) {
+                    throw failures.remove(0);
+                }
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, storage::flush);
+        assertCommandException(ListCommand.COMMAND_WORD,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+        storage.close();
+    }
+
+    @Test
+    public void readAddressBook_filteredList_readsAllPersons() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY);
+        logic.execute(FindCommand.COMMAND_WORD + " name nobody");
+
+        assertEquals(0, logic.getFilteredPersonList().size());
+        assertEquals(List.of(new PersonBuilder(AMY).withTags().build()),
+                logic.readAddressBook(addressBook -> List.copyOf(addressBook.getPersonList())));
+        assertEquals(0, logic.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void readAddressBook_commandBeingExecuted_readsWithoutWaiting() throws Exception {
+        List<Integer> reads = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                // saved while the command is still being executed
+                try {
+                    reads.add(CompletableFuture.supplyAsync(() -> logic.readAddressBook(readAddressBook ->
+                            readAddressBook.getPersonList().size())).get(10, TimeUnit.SECONDS));
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY);
+        assertEquals(List.of(1), reads);
+    }
+
+    @Test
+    public void readAddressBook_afterCommand_keptVersionUnchanged() throws Exception {
+        ReadOnlyAddressBook before = logic.readAddressBook(addressBook -> addressBook);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY);
+
+        assertEquals(0, before.getPersonList().size());
+        assertEquals(1, logic.readAddressBook(addressBook -> addressBook.getPersonList()).size());
+    }
+
+    @Test
+    public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
+    }
+
+    /**
+     * Executes the command and confirms that
+     * - no exceptions are thrown <br>
+     * - the feedback message is equal to {@code expectedMessage} <br>
+     * - the internal model manager state is the same as that in {@code expectedModel} <br>
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertCommandSuccess(String inputCommand, String expectedMessage,
+            Model expectedModel) throws CommandException, ParseException {
+        CommandResult result = logic.execute(inputCommand);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(expectedModel, model);
+    }
+
+    /**
+     * Executes the command, confirms that a ParseException is thrown and that the result message is correct.
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertParseException(String inputCommand, String expectedMessage) {
+        assertCommandFailure(inputCommand, ParseException.class, expectedMessage);
+    }
+
+    /**
+     * Executes the command, confirms that a CommandException is thrown and that the result message is correct.
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertCommandException(String inputCommand, String expectedMessage) {
+        assertCommandFailure(inputCommand, CommandException.class, expectedMessage);
+    }
+
+    /**
+     * Executes the command, confirms that the exception is thrown and that the result message is correct.
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
+            String expectedMessage) {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandFailure(inputCommand, expectedException, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Executes the command and confirms that
+     * - the {@code expectedException} is thrown <br>
+     * - the resulting error message is equal to {@code expectedMessage} <br>
+     * - the internal model manager state is the same as that in {@code expectedModel} <br>
+     * @see #assertCommandSuccess(String, String, Model)
+     */
+    private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
+            String expectedMessage, Model expectedModel) {
+        assertThrows(expectedException, expectedMessage, () -> logic.execute(inputCommand));
+        assertEquals(expectedModel, model);
+    }
+
+    /**
+     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     *
+     * @param e the exception to be thrown by the Storage component
+     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     */
+    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+
+        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                throw e;
+            }
+        };
+
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        logic = new LogicManager(model, storage);
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,112 @@
+package casetrack.app.logic.commands;
+
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandFailure;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.AMY;
+import static casetrack.app.testutil.TypicalPersons.BOB;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.logic.Messages;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Note;
+import casetrack.app.testutil.PersonUtil;
+
+public class BatchCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validCommands_allRunAsOneStep() throws Exception {
+        int amyNumber = getTypicalAddressBook().getPersonList().size() + 1;
+        Path filePath = writeBatchFile(
+                "# new patients",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                "  note " + amyNumber + " t/Intake done  ",
+                PersonUtil.getAddCommand(BOB));
+
+        CommandResult result = new BatchCommand(filePath).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format("Ran 3 commands from %s in ", filePath)));
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(AMY.addNote(new Note("Intake done")));
+        expected.addPerson(BOB);
+        assertEquals(expected, new AddressBook(model.getAddressBook()));
+
+        // the whole batch is undone at once
+        assertTrue(model.commitAddressBook());
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void execute_invalidLines_allReportedAndNothingRun() throws Exception {
+        Path filePath = writeBatchFile(
+                PersonUtil.getAddCommand(AMY),
+                "unknown command",
+                "undo",
+                "delete patient 1");
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_INVALID_LINES, 2, filePath, String.join("\n",
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 2, Messages.MESSAGE_UNKNOWN_COMMAND),
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 3,
+                        String.format(BatchCommand.MESSAGE_NOT_ALLOWED, "undo"))));
+        assertCommandFailure(new BatchCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_failingCommand_earlierChangesRolledBack() throws Exception {
+        Path filePath = writeBatchFile(
+                PersonUtil.getAddCommand(AMY),
+                "delete patient 2",
+                PersonUtil.getAddCommand(ALICE),
+                PersonUtil.getAddCommand(BOB));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILED_LINE, 3, filePath,
+                AddCommand.MESSAGE_DUPLICATE_PERSON);
+        assertCommandFailure(new BatchCommand(filePath), model, expectedMessage);
+        assertFalse(model.commitAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.txt");
+        String expectedMessage = String.format(BatchCommand.MESSAGE_READ_ERROR, filePath,
+                new NoSuchFileException(filePath.toString()));
+        assertCommandFailure(new BatchCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(Paths.get("batch.txt"));
+
+        assertTrue(batchCommand.equals(batchCommand));
+        assertTrue(batchCommand.equals(new BatchCommand(Paths.get("batch.txt"))));
+        assertFalse(batchCommand.equals(new BatchCommand(Paths.get("other.txt"))));
+        assertFalse(batchCommand.equals(null));
+        assertFalse(batchCommand.equals(1));
+    }
+
+    private Path writeBatchFile(String... lines) throws IOException {
+        return Files.write(testFolder.resolve("batch.txt"), List.of(lines));
+    }
+}
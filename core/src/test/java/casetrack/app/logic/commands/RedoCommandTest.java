@@ -0,0 +1,47 @@
+package casetrack.app.logic.commands;
+
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandFailure;
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Note;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesChange() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.undoAddressBook();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        CommandResult expectedCommandResult = new CommandResult(RedoCommand.MESSAGE_SUCCESS,
+                new DetailPanelInstruction(null));
+        assertCommandSuccess(new RedoCommand(), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_failure() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.setPerson(ALICE, ALICE.addNote(new Note("Call back")));
+        model.commitAddressBook();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
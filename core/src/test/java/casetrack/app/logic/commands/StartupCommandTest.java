@@ -0,0 +1,42 @@
+package casetrack.app.logic.commands;
+
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.commons.core.StartupTimings;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+
+public class StartupCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noTimings_showsNoTimingsMessage() {
+        assertCommandSuccess(new StartupCommand(new StartupTimings()), model, StartupCommand.MESSAGE_NO_TIMINGS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_recordedPhases_showsPhases() {
+        StartupTimings startupTimings = new StartupTimings();
+        startupTimings.record("config", System.nanoTime());
+        String expectedMessage = String.format(StartupCommand.MESSAGE_SUCCESS, startupTimings.format());
+        assertCommandSuccess(new StartupCommand(startupTimings), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        StartupTimings startupTimings = new StartupTimings();
+        StartupCommand startupCommand = new StartupCommand(startupTimings);
+
+        assertTrue(startupCommand.equals(startupCommand));
+        assertTrue(startupCommand.equals(new StartupCommand(startupTimings)));
+        assertFalse(startupCommand.equals(new StartupCommand(new StartupTimings())));
+        assertFalse(startupCommand.equals(null));
+        assertFalse(startupCommand.equals(1));
+    }
+}
@@ -0,0 +1,48 @@
+package casetrack.app.logic.commands;
+
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandFailure;
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noCommittedChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterDelete_restoresPerson() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandResult expectedCommandResult = new CommandResult(UndoCommand.MESSAGE_SUCCESS,
+                new DetailPanelInstruction(null));
+        assertCommandSuccess(new UndoCommand(), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_afterClear_restoresAllPersons() {
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandResult expectedCommandResult = new CommandResult(UndoCommand.MESSAGE_SUCCESS,
+                new DetailPanelInstruction(null));
+        assertCommandSuccess(new UndoCommand(), model, expectedCommandResult, expectedModel);
+
+        // no more steps to undo
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
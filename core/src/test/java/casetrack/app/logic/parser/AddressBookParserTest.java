@@ -7,6 +7,7 @@ import static casetrack.app.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.logic.commands.AddCommand;
+import casetrack.app.logic.commands.BatchCommand;
 import casetrack.app.logic.commands.ClearCommand;
 import casetrack.app.logic.commands.DeletePatientCommand;
 import casetrack.app.logic.commands.EditPatientCommand;
@@ -23,6 +25,9 @@ import casetrack.app.logic.commands.FindCommand;
 import casetrack.app.logic.commands.HelpCommand;
 import casetrack.app.logic.commands.ListCommand;
 import casetrack.app.logic.commands.NoteCommand;
+import casetrack.app.logic.commands.RedoCommand;
+import casetrack.app.logic.commands.StartupCommand;
+import casetrack.app.logic.commands.UndoCommand;
 import casetrack.app.logic.commands.ViewDetailsCommand;
 import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
@@ -66,6 +71,18 @@ public class AddressBookParserTest {
         assertEquals(new EditPatientCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -86,6 +103,20 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        assertEquals(new BatchCommand(Paths.get("data", "batch.txt")),
+                parser.parseCommand(BatchCommand.COMMAND_WORD + " data/batch.txt"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(BatchCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_startup() throws Exception {
+        assertTrue(parser.parseCommand(StartupCommand.COMMAND_WORD) instanceof StartupCommand);
+        assertTrue(parser.parseCommand(StartupCommand.COMMAND_WORD + " 3") instanceof StartupCommand);
+    }
+
     @Test
     public void parseCommand_viewDetails() throws Exception {
         assertTrue(parser.parseCommand(ViewDetailsCommand.COMMAND_WORD + " 3") instanceof ViewDetailsCommand);
@@ -105,6 +136,30 @@ public class AddressBookParserTest {
         assertEquals(new NoteCommand(INDEX_FIRST_PERSON, note), command);
     }
 
+    @Test
+    public void parseCommand_abbreviatedCommandWord() throws Exception {
+        assertEquals(new ViewDetailsCommand(INDEX_FIRST_PERSON), parser.parseCommand("vi 1"));
+        assertTrue(parser.parseCommand("li") instanceof ListCommand);
+        assertTrue(parser.parseCommand("st") instanceof StartupCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        // edit and exit
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("e 1"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedDrasticCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cl"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ex"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("d patient 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("del note 1 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("u"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("r"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("b commands.txt"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
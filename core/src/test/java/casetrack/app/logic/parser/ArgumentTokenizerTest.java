@@ -136,6 +136,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesStartingAtSamePosition_longestRecognized() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "SomePreambleString p//double p/single";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlashSlash, "double");
+        assertArgumentPresent(argMultimap, pSlash, "single");
+    }
+
+    @Test
+    public void tokenize_emptyPrefix_notRecognized() {
+        String argsString = "SomePreambleString p/ pSlash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, new Prefix(""), pSlash);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,69 @@
+package casetrack.app.logic.parser;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.logic.commands.ClearCommand;
+import casetrack.app.logic.commands.Command;
+import casetrack.app.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<Command> list = arguments -> new ListCommand();
+    private final Parser<Command> listAll = arguments -> new ListCommand();
+    private final Parser<Command> clear = arguments -> new ClearCommand();
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", list);
+        assertThrows(IllegalArgumentException.class,
+                String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD, "list"), () ->
+                        registry.register("list", listAll));
+    }
+
+    @Test
+    public void register_emptyCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandRegistry().register("", list));
+    }
+
+    @Test
+    public void find_commandWord_success() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", list);
+        registry.register("listall", listAll);
+
+        assertEquals(list, registry.find("list").get()); // spelled out, although also a prefix of listall
+        assertEquals(listAll, registry.find("listall").get());
+        assertFalse(registry.find("").isPresent());
+        assertFalse(registry.find("listalls").isPresent());
+        assertFalse(registry.find("LIST").isPresent());
+    }
+
+    @Test
+    public void find_abbreviation_onlyUnambiguousFound() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", list);
+        registry.register("listall", listAll);
+        registry.register("clear", clear);
+
+        assertEquals(clear, registry.find("c").get());
+        assertEquals(clear, registry.find("cle").get());
+        assertEquals(listAll, registry.find("lista").get());
+        assertFalse(registry.find("l").isPresent());
+        assertFalse(registry.find("lis").isPresent());
+    }
+
+    @Test
+    public void find_abbreviationOfCommandWordThatCannotBeAbbreviated_notFound() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("clear", clear, false);
+
+        assertEquals(clear, registry.find("clear").get());
+        assertFalse(registry.find("c").isPresent());
+        assertFalse(registry.find("clea").isPresent());
+    }
+}
@@ -7,6 +7,8 @@ import static casetrack.app.testutil.TypicalPersons.ALICE;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
@@ -54,6 +56,25 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_changesOnEveryModification() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -83,6 +104,28 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_afterChanges_unaffected() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertSame(snapshot, snapshot.getSnapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getSnapshot_otherReadOnlyAddressBook_copiesPersons() {
+        AddressBookStub stub = new AddressBookStub(List.of(ALICE));
+        ReadOnlyAddressBook snapshot = stub.getSnapshot();
+        stub.persons.clear();
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(new AddressBookSnapshot(List.of(ALICE)), snapshot);
+        assertNotEquals(new AddressBookSnapshot(List.of()), snapshot);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -88,6 +88,41 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void loadAddressBook_afterChanges_replacesDataWithoutHistory() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        AddressBook loaded = new AddressBookBuilder().withPerson(BENSON).build();
+        modelManager.loadAddressBook(loaded);
+        assertEquals(loaded, new AddressBook(modelManager.getAddressBook()));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void getCommittedAddressBook_uncommittedChanges_notVisible() {
+        modelManager.addPerson(ALICE);
+        assertEquals(new AddressBook(), new AddressBook(modelManager.getCommittedAddressBook()));
+
+        modelManager.commitAddressBook();
+        ReadOnlyAddressBook committed = modelManager.getCommittedAddressBook();
+        assertEquals(Arrays.asList(ALICE), committed.getPersonList());
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        modelManager.commitAddressBook();
+        assertEquals(committed, modelManager.getCommittedAddressBook());
+        assertEquals(Arrays.asList(ALICE), committed.getPersonList());
+    }
+
+    @Test
+    public void getCommittedAddressBook_loadAddressBook_loadedDataVisible() {
+        modelManager.loadAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(Arrays.asList(BENSON), modelManager.getCommittedAddressBook().getPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,190 @@
+package casetrack.app.model;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.AMY;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.CARL;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.exceptions.PersonNotFoundException;
+import casetrack.app.testutil.AddressBookBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+            new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build());
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void commit_noChanges_returnsFalse() {
+        assertFalse(versionedAddressBook.commit());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_withChanges_returnsTrue() {
+        versionedAddressBook.addPerson(AMY);
+        assertTrue(versionedAddressBook.commit());
+        assertTrue(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void reset_withHistory_replacesPersonsAndClearsHistory() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+
+        versionedAddressBook.reset(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.commit());
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void rollback_noChanges_returnsFalse() {
+        assertFalse(versionedAddressBook.rollback());
+    }
+
+    @Test
+    public void rollback_withChanges_restoresLastCommitAndKeepsHistory() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.setPerson(ALICE, ALICE.addNote(new Note("Follow-up")));
+        versionedAddressBook.addPerson(BENSON);
+
+        assertTrue(versionedAddressBook.rollback());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, AMY), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.commit());
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_addPerson_restoresStates() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, AMY), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_removePerson_restoresOriginalPosition() {
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_setPerson_restoresOriginalPerson() {
+        Person editedBenson = BENSON.addNote(new Note("Follow-up"));
+        versionedAddressBook.setPerson(BENSON, editedBenson);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_resetData_restoresAllPersons() {
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_multipleChangesInOneCommit_revertsAllChanges() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(BENSON, AMY), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoHistory() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void failedChange_notRecorded() {
+        assertThrows(PersonNotFoundException.class, () -> versionedAddressBook.removePerson(AMY));
+        assertFalse(versionedAddressBook.commit());
+    }
+
+    @Test
+    public void commit_exceedsBudget_discardsOldestSteps() {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(new AddressBook(), 2);
+        limitedAddressBook.addPerson(ALICE);
+        limitedAddressBook.commit();
+        limitedAddressBook.addPerson(BENSON);
+        limitedAddressBook.commit();
+        limitedAddressBook.addPerson(CARL);
+        limitedAddressBook.commit();
+
+        limitedAddressBook.undo();
+        limitedAddressBook.undo();
+        assertFalse(limitedAddressBook.canUndo());
+        assertEquals(Arrays.asList(ALICE), limitedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_singleStepExceedsBudget_keepsLatestStep() {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), 1);
+        limitedAddressBook.resetData(new AddressBook());
+        limitedAddressBook.commit();
+
+        limitedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), limitedAddressBook);
+    }
+
+    @Test
+    public void equals_ignoresHistory() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build(),
+                versionedAddressBook);
+    }
+}
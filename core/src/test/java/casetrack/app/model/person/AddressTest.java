@@ -1,7 +1,9 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -53,4 +55,11 @@ public class AddressTest {
         // different values -> returns false
         assertFalse(address.equals(new Address("Other Valid Address")));
     }
+
+    @Test
+    public void of_equalAddresses_returnsSameInstance() {
+        Address address = Address.of("Blk 456, Den Road, #01-355");
+        assertSame(address, Address.of(new String("Blk 456, Den Road, #01-355")));
+        assertEquals(new Address("Blk 456, Den Road, #01-355"), address);
+    }
 }
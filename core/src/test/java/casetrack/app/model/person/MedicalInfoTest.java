@@ -4,6 +4,7 @@ import static casetrack.app.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -77,4 +78,11 @@ public class MedicalInfoTest {
         assertEquals(initialHash, info1.hashCode());
         assertEquals(initialHash, info1.hashCode());
     }
+
+    @Test
+    public void of_equalMedicalInfo_returnsSameInstance() {
+        MedicalInfo info = MedicalInfo.of("Asthma");
+        assertSame(info, MedicalInfo.of(new String("Asthma")));
+        assertEquals(new MedicalInfo("Asthma"), info);
+    }
 }
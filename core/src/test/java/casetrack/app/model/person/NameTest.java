@@ -31,6 +31,9 @@ public class NameTest {
         assertFalse(Name.isValidName("peter*")); // contains non-alphanumeric characters
         assertFalse(Name.isValidName("s/o peter*")); // starts with s/o
         assertFalse(Name.isValidName("john s/ o peter*")); // s/o is not continous
+        assertFalse(Name.isValidName("john a/o peter")); // slash not in s/o or d/o
+        assertFalse(Name.isValidName("john s/opeter")); // s/o not followed by a space
+        assertFalse(Name.isValidName("123 456")); // no alphabetic character
 
         // valid name
         assertTrue(Name.isValidName("peter jack")); // alphabets only
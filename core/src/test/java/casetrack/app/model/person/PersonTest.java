@@ -15,6 +15,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.model.tag.Tag;
@@ -206,4 +210,26 @@ public class PersonTest {
         Person editedAlice = new PersonBuilder(ALICE).withMedicalInfo(VALID_MEDICAL_INFO_BOB).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void getNotes_noteLoader_loadedOnceOnFirstAccess() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<List<Note>> noteLoader = () -> {
+            loadCount.incrementAndGet();
+            return List.of(new Note("Loaded note"));
+        };
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getIncome(), ALICE.getMedicalInfo(), ALICE.getTags(), noteLoader);
+
+        // different name -> notes are not needed to tell persons apart
+        assertFalse(person.equals(BOB));
+        assertEquals(0, loadCount.get());
+
+        assertEquals(List.of(new Note("Loaded note")), person.getNotes());
+        assertEquals(new PersonBuilder(ALICE).withNotes(new Note("Loaded note")).build(), person);
+        assertEquals(1, loadCount.get());
+        assertEquals(List.of(new Note("Loaded note"), new Note("Added note")),
+                person.addNote(new Note("Added note")).getNotes());
+        assertEquals(1, loadCount.get());
+    }
 }
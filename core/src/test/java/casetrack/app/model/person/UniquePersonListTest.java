@@ -213,6 +213,36 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSamePersonDifferentCase_throwsDuplicatePersonException() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, upperCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void getSnapshot_afterChanges_unaffected() {
+        uniquePersonList.add(ALICE);
+        List<Person> snapshot = uniquePersonList.getSnapshot();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.add(0, BOB);
+        assertEquals(List.of(ALICE), snapshot);
+        assertEquals(List.of(BOB, editedAlice), uniquePersonList.getSnapshot());
+
+        uniquePersonList.remove(BOB);
+        assertEquals(List.of(editedAlice), uniquePersonList.getSnapshot());
+
+        uniquePersonList.setPersons(List.of(BOB, ALICE));
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot());
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertEquals(List.of(ALICE), uniquePersonList.getSnapshot());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
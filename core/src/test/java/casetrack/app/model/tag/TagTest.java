@@ -1,7 +1,9 @@
 package casetrack.app.model.tag;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -40,4 +42,12 @@ public class TagTest {
         assertTrue(Tag.isValidTagName("123-456")); // numbers with hyphen
     }
 
+    @Test
+    public void of_equalTagNames_returnsSameInstance() {
+        Tag tag = Tag.of("friend");
+        assertSame(tag, Tag.of(new String("friend")));
+        assertEquals(new Tag("friend"), tag);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
 }
@@ -0,0 +1,258 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Save and read to another location
+        Path otherFilePath = testFolder.resolve("other.bin");
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_personsWithNotes_notesLoadedOnAccess() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withNotes(new Note("First visit"), new Note("Follow-up")).build());
+        original.addPerson(BENSON);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook read = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(new Note("First visit"), new Note("Follow-up")),
+                read.getPersonList().get(0).getNotes());
+        assertEquals(original, new AddressBook(read));
+    }
+
+    @Test
+    public void saveAddressBook_notesNotAccessed_notesCopiedWithoutLoading() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withNotes(new Note("First visit"), new Note("Follow-up")).build());
+        original.addPerson(new PersonBuilder(BENSON).withNotes(new Note("Referred")).build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // save again after a change to another person, as after a command
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        read.addPerson(HOON);
+        storage.saveAddressBook(read);
+        assertNotNull(read.getPersonList().get(0).getNoteLoader());
+        assertNotNull(read.getPersonList().get(1).getNoteLoader());
+
+        original.addPerson(HOON);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_emptyAddressBook_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sharedValues_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath) / 2);
+    }
+
+    @Test
+    public void readAddressBook_legacyDataOnly_convertsLegacyData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage =
+                new BinaryAddressBookStorage(binaryFilePath, new JsonAddressBookStorage(jsonFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(binaryFilePath));
+
+        // the binary file takes precedence once it exists
+        Files.delete(jsonFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noDataAtAll_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"),
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(testFolder.resolve("ab.bin")));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 3] ^= 0x20; // inside the last record
+        Files.write(filePath, bytes);
+
+        int lastRecord = getTypicalAddressBook().getPersonList().size();
+        assertDataLoadingException(filePath, String.format(BinaryAddressBookStorage.MESSAGE_CORRUPTED_BLOCK,
+                lastRecord, filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidNoteWithValidChecksum_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        saveWithNote(filePath, "First visit");
+        replaceInFirstRecord(filePath, "First visit", " ".repeat(11));
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertThrows(DataLoadingException.class, new IllegalValueException(String.format(
+                JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 1, Note.MESSAGE_CONSTRAINTS)).toString(),
+                storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_malformedUtf8NoteWithValidChecksum_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        saveWithNote(filePath, "First visit");
+        replaceInFirstRecord(filePath, "First visit", "First visi\u00ff"); // 0xff never occurs in UTF-8
+
+        assertDataLoadingException(filePath, filePath + " is truncated or corrupted");
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertDataLoadingException(filePath, filePath + " is truncated or corrupted");
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertDataLoadingException(filePath, String.format(BinaryAddressBookStorage.MESSAGE_NOT_BINARY_FILE,
+                filePath));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[5] = 2; // low byte of the format version
+        Files.write(filePath, bytes);
+
+        assertDataLoadingException(filePath, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                filePath, 2));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        ReadOnlyAddressBook addressBook = new AddressBook();
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(addressBook, null));
+    }
+
+    private static void saveWithNote(Path filePath, String note) throws IOException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withNotes(new Note(note)).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Replaces {@code target} by {@code replacement}, which must have the same length, in the first record of the
+     * binary file at {@code filePath}, and updates the checksum of the record to match. Both are given as one
+     * character per byte.
+     */
+    private static void replaceInFirstRecord(Path filePath, String target, String replacement) throws IOException {
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        file.position(6); // after the magic bytes and the format version
+        file.position(file.position() + 8 + file.getInt(file.position())); // after the dictionary block
+        int recordStart = file.position() + 4;
+        int recordLength = file.getInt(recordStart);
+        byte[] record = Arrays.copyOfRange(file.array(), recordStart + 8, recordStart + 8 + recordLength);
+        String content = new String(record, StandardCharsets.ISO_8859_1).replace(target, replacement);
+        record = content.getBytes(StandardCharsets.ISO_8859_1);
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        file.putInt(recordStart + 4, (int) crc.getValue());
+        file.put(recordStart + 8, record);
+        Files.write(filePath, file.array());
+    }
+
+    /**
+     * Asserts that reading {@code filePath} fails with an {@code IOException} with {@code expectedCauseMessage}.
+     */
+    private static void assertDataLoadingException(Path filePath, String expectedCauseMessage) {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertThrows(DataLoadingException.class, new IOException(expectedCauseMessage).toString(),
+                storage::readAddressBook);
+    }
+}
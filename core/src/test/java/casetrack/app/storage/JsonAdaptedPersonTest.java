@@ -4,6 +4,7 @@ import static casetrack.app.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORM
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -48,6 +49,31 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_repeatedValues_sharesInstances() throws Exception {
+        Person first = new JsonAdaptedPerson(BENSON).toModelType();
+        Person second = new JsonAdaptedPerson(BENSON).toModelType();
+        assertSame(first.getAddress(), second.getAddress());
+        assertSame(first.getMedicalInfo(), second.getMedicalInfo());
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
+    @Test
+    public void validate_validPerson_returnsEmptyList() {
+        assertTrue(new JsonAdaptedPerson(BENSON).validate().isEmpty());
+    }
+
+    @Test
+    public void toModelType_multipleInvalidFields_reportsAllInvalidFields() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_NAME, null, INVALID_EMAIL,
+                VALID_ADDRESS, VALID_INCOME, VALID_MEDICAL_INFO, VALID_TAGS, VALID_NOTES);
+        List<String> expectedErrors = List.of(Name.MESSAGE_CONSTRAINTS,
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()), Email.MESSAGE_CONSTRAINTS);
+
+        assertEquals(expectedErrors, person.validate());
+        assertThrows(IllegalValueException.class, String.join("\n", expectedErrors), person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -7,10 +7,13 @@ import static casetrack.app.testutil.TypicalPersons.IDA;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +89,23 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        Path compressedFilePath = testFolder.resolve("TempAddressBook.json.gz");
+        Path plainFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(compressedFilePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original, plainFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath) / 2);
+
+        // compressed content is detected regardless of the file name
+        Files.move(compressedFilePath, plainFilePath, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(original, new AddressBook(storage.readAddressBook(plainFilePath).get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,115 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.person.Name;
+import casetrack.app.model.person.Phone;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.testutil.TypicalPersons;
+
+public class JsonSerializableAddressBookTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path MULTIPLE_INVALID_PERSONS_FILE =
+            TEST_DATA_FOLDER.resolve("multipleInvalidPersonsAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJsonFile_typicalPersonsFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonSerializableAddressBook.readJsonFile(TYPICAL_PERSONS_FILE).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        assertEquals(addressBookFromFile, typicalPersonsAddressBook);
+        assertEquals(0, dataFromFile.getJournalSequence());
+    }
+
+    @Test
+    public void readJsonFile_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonSerializableAddressBook.readJsonFile(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void readJsonFile_invalidPersonFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonSerializableAddressBook.readJsonFile(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_multipleInvalidPersons_reportsAllInvalidFields() {
+        String expectedMessage = String.join("\n",
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 1, Phone.MESSAGE_CONSTRAINTS),
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 1, Income.MESSAGE_CONSTRAINTS),
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 3, Name.MESSAGE_CONSTRAINTS),
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 3, Tag.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> read(MULTIPLE_INVALID_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_notAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\": {}}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [1]}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": []"));
+        assertThrows(IOException.class, () -> read(""));
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        JsonSerializableAddressBook data = read("{\"version\": {\"major\": 1}, \"persons\": [], \"other\": [2]}");
+        assertEquals(new AddressBook(), data.toModelType());
+    }
+
+    @Test
+    public void saveJsonFile_thenReadJsonFile_sameData() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("addressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JsonSerializableAddressBook.saveJsonFile(original, 42, filePath);
+
+        JsonSerializableAddressBook readBack = JsonSerializableAddressBook.readJsonFile(filePath).get();
+        assertEquals(original, readBack.toModelType());
+        assertEquals(42, readBack.getJournalSequence());
+    }
+
+    private static JsonSerializableAddressBook read(Path filePath) throws Exception {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return JsonSerializableAddressBook.read(in);
+        }
+    }
+
+    private static JsonSerializableAddressBook read(String json) throws Exception {
+        return JsonSerializableAddressBook.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
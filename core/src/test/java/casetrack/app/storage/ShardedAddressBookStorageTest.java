@@ -0,0 +1,231 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_noShards_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("ab.shards"), null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(
+                testFolder.resolve("ab.shards"), null, ShardedAddressBookStorage.MAX_SHARD_COUNT + 1));
+    }
+
+    @Test
+    public void readAddressBook_nullDirectory_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("ab.shards"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("ab.shards")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directory = testFolder.resolve("data").resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory, null, 4);
+        AddressBook original = getTypicalAddressBook();
+
+        // Save in new directory and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite existing shards, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+
+        // Save and read to another location
+        Path otherDirectory = testFolder.resolve("other.shards");
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, otherDirectory);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherDirectory).get()));
+    }
+
+    @Test
+    public void readAddressBook_emptyAddressBook_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("ab.shards"));
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardRewritten() throws Exception {
+        Path directory = testFolder.resolve("ab.shards");
+        AddressBook addressBook = getTypicalAddressBook();
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook);
+        List<String> shardFiles = readShardFiles(directory);
+
+        // a new storage instance only knows the saved shards after reading them
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withEmail("alice@clinic.org").build());
+        storage.saveAddressBook(addressBook);
+
+        List<String> newShardFiles = readShardFiles(directory);
+        List<String> rewrittenShardFiles = new ArrayList<>(newShardFiles);
+        rewrittenShardFiles.removeAll(shardFiles);
+        assertEquals(1, rewrittenShardFiles.size());
+        assertEquals(newShardFiles, listShardFiles(directory)); // superseded shard file deleted
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        Path directory = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Files.delete(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME));
+
+        storage.saveAddressBook(new AddressBook(addressBook));
+        assertFalse(Files.exists(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+    }
+
+    @Test
+    public void readAddressBook_legacyDataOnly_convertsLegacyData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path directory = testFolder.resolve("ab.shards");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage =
+                new ShardedAddressBookStorage(directory, new JsonAddressBookStorage(jsonFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+
+        // the shards take precedence once they exist
+        Files.delete(jsonFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShardFile_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("ab.shards");
+        new ShardedAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+        Files.delete(directory.resolve(readShardFiles(directory).get(0)));
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_manyPersons_orderStoredAsOneStringInManifest() throws Exception {
+        Path directory = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000 + i))
+                    .build());
+        }
+        storage.saveAddressBook(addressBook);
+
+        // one byte per person, base64-encoded on a single line
+        String manifest = Files.readString(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME));
+        assertTrue(manifest.length() < 2000, manifest);
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_orderListedAsNumbers_success() throws Exception {
+        Path directory = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory, null, 4);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // rewrite the manifest in the format of older versions
+        Path manifestFile = directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        JsonAdaptedShardManifest manifest = JsonUtil.readJsonFile(manifestFile, JsonAdaptedShardManifest.class).get();
+        List<Integer> order = new ArrayList<>();
+        for (byte shard : manifest.getOrder()) {
+            order.add((int) shard);
+        }
+        Files.writeString(manifestFile, JsonUtil.toJsonString(Map.of("generation", manifest.getGeneration(),
+                "shards", manifest.getShards(), "order", order)));
+
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(directory, null, 4)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_shardsDoNotMatchManifest_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("ab.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory, null, 1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path shardFile = directory.resolve(readShardFiles(directory).get(0));
+        Files.copy(shardFile, testFolder.resolve("shard.json"));
+
+        // the manifest lists one more person than the shard holds
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.copy(testFolder.resolve("shard.json"), directory.resolve(readShardFiles(directory).get(0)),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        assertThrows(DataLoadingException.class, new IOException(String.format(
+                ShardedAddressBookStorage.MESSAGE_INCONSISTENT_SHARDS, directory)).toString(),
+                new ShardedAddressBookStorage(directory, null, 1)::readAddressBook);
+        assertFalse(Files.exists(shardFile)); // superseded by the second save
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("ab.shards"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullDirectory_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("ab.shards"));
+        ReadOnlyAddressBook addressBook = new AddressBook();
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(addressBook, null));
+    }
+
+    private static List<String> readShardFiles(Path directory) throws DataLoadingException {
+        return JsonUtil.readJsonFile(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME),
+                JsonAdaptedShardManifest.class).get().getShards();
+    }
+
+    private static List<String> listShardFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("shard-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+import casetrack.app.testutil.PersonBuilder;
+
+public class ValidatingAddressBookBuilderTest {
+
+    // spans several chunks, with a partial last chunk
+    private static final int PERSON_COUNT = 3 * ValidatingAddressBookBuilder.CHUNK_SIZE + 7;
+
+    @Test
+    public void build_manyPersons_originalOrder() throws Exception {
+        List<Person> persons = createPersons(PERSON_COUNT);
+        ValidatingAddressBookBuilder builder = new ValidatingAddressBookBuilder();
+        for (Person person : persons) {
+            builder.add(new JsonAdaptedPerson(person));
+        }
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        assertEquals(expected, builder.build());
+    }
+
+    @Test
+    public void build_invalidPersonsInSeveralChunks_reportsAllInOrder() {
+        List<Person> persons = createPersons(PERSON_COUNT);
+        int lastChunkPerson = PERSON_COUNT - 1;
+        ValidatingAddressBookBuilder builder = new ValidatingAddressBookBuilder();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i == 1 || i == ValidatingAddressBookBuilder.CHUNK_SIZE || i == lastChunkPerson) {
+                builder.add(withPhone(persons.get(i), "not a phone"));
+            } else {
+                builder.add(new JsonAdaptedPerson(persons.get(i)));
+            }
+        }
+
+        String expectedMessage = String.join("\n",
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 2, Phone.MESSAGE_CONSTRAINTS),
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                        ValidatingAddressBookBuilder.CHUNK_SIZE + 1, Phone.MESSAGE_CONSTRAINTS),
+                String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, lastChunkPerson + 1,
+                        Phone.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, builder::build);
+    }
+
+    @Test
+    public void build_duplicatePersonsInDifferentChunks_throwsIllegalValueException() {
+        List<Person> persons = createPersons(PERSON_COUNT);
+        ValidatingAddressBookBuilder builder = new ValidatingAddressBookBuilder();
+        for (Person person : persons) {
+            builder.add(new JsonAdaptedPerson(person));
+        }
+        // same name in different case and same phone as the first person
+        Person first = persons.get(0);
+        builder.add(new JsonAdaptedPerson(new PersonBuilder(first).withName(first.getName().fullName.toUpperCase())
+                .withEmail("other@example.com").build()));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                builder::build);
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i).withPhone(String.valueOf(90000000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withPhone(Person person, String phone) {
+        return new JsonAdaptedPerson(person.getName().fullName, phone, person.getEmail().value,
+                person.getAddress().value, person.getIncome().toPlainString(), person.getMedicalInfo().medicalInfo,
+                List.of(), List.of());
+    }
+}
@@ -0,0 +1,255 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.testutil.AddressBookBuilder;
+
+public class WriteBehindStorageTest {
+
+    private static final Duration LONG_DELAY = Duration.ofMinutes(10);
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private final RecordingAddressBookStorage addressBookStorage = new RecordingAddressBookStorage();
+    private WriteBehindStorage storage;
+
+    @AfterEach
+    public void tearDown() {
+        addressBookStorage.failure = null;
+        try {
+            storage.close();
+        } catch (IOException e) {
+            // the last write of the test may have failed on purpose
+        }
+    }
+
+    private WriteBehindStorage createStorage(Duration groupCommitDelay, Duration maxDelay) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                groupCommitDelay, maxDelay);
+        return storage;
+    }
+
+    @Test
+    public void constructor_invalidDelays_throwsIllegalArgumentException() {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        assertThrows(IllegalArgumentException.class, () ->
+                new WriteBehindStorage(storageManager, Duration.ofSeconds(-1), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () ->
+                new WriteBehindStorage(storageManager, Duration.ofSeconds(1), Duration.ofSeconds(-1)));
+        createStorage(Duration.ZERO, Duration.ZERO);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writesLatestDataOnce() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        AddressBook latest = getTypicalAddressBook();
+        storage.saveAddressBook(latest);
+        assertEquals(0, addressBookStorage.getWriteCount());
+
+        storage.flush();
+        assertEquals(1, addressBookStorage.getWriteCount());
+        assertEquals(latest, new AddressBook(addressBookStorage.getLastWritten()));
+    }
+
+    @Test
+    public void saveAddressBook_noFlush_writtenWithinMaxDelay() throws Exception {
+        createStorage(LONG_DELAY, Duration.ofMillis(50));
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(addressBookStorage.written.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saveAddressBook_laterChangesToAddressBook_notWritten() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.flush();
+        assertEquals(expected, new AddressBook(addressBookStorage.getLastWritten()));
+    }
+
+    @Test
+    public void saveAddressBook_failedWriteWithHandler_failureReportedToHandler() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        List<IOException> reported = new ArrayList<>();
+        storage.setSaveFailureHandler(reported::add);
+        addressBookStorage.failure = DUMMY_IO_EXCEPTION;
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), reported);
+
+        // the failure has been reported, so the next save succeeds and writes the data again
+        addressBookStorage.failure = null;
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), reported);
+        assertEquals(1, addressBookStorage.getWriteCount());
+    }
+
+    @Test
+    public void saveAddressBook_failedWriteWithoutHandler_failureThrownFromNextSave() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        addressBookStorage.failure = DUMMY_IO_EXCEPTION;
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+
+        addressBookStorage.failure = null;
+        AddressBook addressBook = getTypicalAddressBook();
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> storage.saveAddressBook(addressBook));
+
+        // the data passed to the failing save is still written
+        storage.flush();
+        assertEquals(addressBook, new AddressBook(addressBookStorage.getLastWritten()));
+    }
+
+    @Test
+    public void flush_afterFailedWrite_writesFailedSnapshotAgain() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        List<IOException> reported = new ArrayList<>();
+        storage.setSaveFailureHandler(reported::add);
+        addressBookStorage.failure = DUMMY_IO_EXCEPTION;
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        assertEquals(List.of(DUMMY_IO_EXCEPTION, DUMMY_IO_EXCEPTION), reported);
+
+        // the failure is temporary, so the retry succeeds without a new save
+        addressBookStorage.failure = null;
+        storage.flush();
+        assertEquals(1, addressBookStorage.getWriteCount());
+        assertEquals(addressBook, new AddressBook(addressBookStorage.getLastWritten()));
+
+        // once written, the snapshot is not written again
+        storage.flush();
+        assertEquals(1, addressBookStorage.getWriteCount());
+    }
+
+    @Test
+    public void close_afterFailedWrite_writesFailedSnapshotAgain() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        storage.setSaveFailureHandler(failure -> { });
+        addressBookStorage.failure = DUMMY_IO_EXCEPTION;
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+
+        addressBookStorage.failure = null;
+        storage.close();
+        assertEquals(addressBook, new AddressBook(addressBookStorage.getLastWritten()));
+    }
+
+    @Test
+    public void saveAddressBookToPath_writesQueuedDataFirst() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        AddressBook queued = getTypicalAddressBook();
+        storage.saveAddressBook(queued);
+        storage.saveAddressBook(new AddressBook(), testFolder.resolve("other"));
+
+        assertEquals(2, addressBookStorage.getWriteCount());
+        assertEquals(queued, new AddressBook(addressBookStorage.writes.get(0)));
+    }
+
+    @Test
+    public void close_writesQueuedDataAndRejectsLaterSaves() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        assertEquals(1, addressBookStorage.getWriteCount());
+        assertThrows(IllegalStateException.class, () -> storage.saveAddressBook(addressBook));
+    }
+
+    @Test
+    public void readAddressBook_delegatesToStorage() throws Exception {
+        createStorage(LONG_DELAY, LONG_DELAY);
+        assertEquals(addressBookStorage.getAddressBookFilePath(), storage.getAddressBookFilePath());
+        assertEquals(Optional.empty(), storage.readAddressBook());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books written to it, or fails with {@code failure}.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> writes = new ArrayList<>();
+        private final CountDownLatch written = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        synchronized int getWriteCount() {
+            return writes.size();
+        }
+
+        synchronized ReadOnlyAddressBook getLastWritten() {
+            return writes.get(writes.size() - 1);
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Path.of("recorded.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            writes.add(addressBook);
+            written.countDown();
+        }
+    }
+}
@@ -1,88 +0,0 @@
-package casetrack.app.logic;
-
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
-import java.nio.file.Path;
-import java.util.logging.Logger;
-
-import casetrack.app.commons.core.GuiSettings;
-import casetrack.app.commons.core.LogsCenter;
-import casetrack.app.logic.commands.Command;
-import casetrack.app.logic.commands.CommandResult;
-import casetrack.app.logic.commands.exceptions.CommandException;
-import casetrack.app.logic.parser.AddressBookParser;
-import casetrack.app.logic.parser.exceptions.ParseException;
-import casetrack.app.model.Model;
-import casetrack.app.model.ReadOnlyAddressBook;
-import casetrack.app.model.person.Person;
-import casetrack.app.storage.Storage;
-import javafx.collections.ObservableList;
-
-/**
- * The main LogicManager of the app.
- */
-public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
-
-    public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
-            "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
-
-    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
-
-    private final Model model;
-    private final Storage storage;
-    private final AddressBookParser addressBookParser;
-
-    /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
-     */
-    public LogicManager(Model model, Storage storage) {
-        this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
-    }
-
-    @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
-
-        return commandResult;
-    }
-
-    @Override
-    public ReadOnlyAddressBook getAddressBook() {
-        return model.getAddressBook();
-    }
-
-    @Override
-    public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
-    }
-
-    @Override
-    public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
-    }
-
-    @Override
-    public GuiSettings getGuiSettings() {
-        return model.getGuiSettings();
-    }
-
-    @Override
-    public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
-    }
-}
@@ -1,13 +0,0 @@
-package casetrack.app.ui;
-
-import javafx.stage.Stage;
-
-/**
- * API of UI component
- */
-public interface Ui {
-
-    /** Starts the UI (and the App).  */
-    void start(Stage primaryStage);
-
-}
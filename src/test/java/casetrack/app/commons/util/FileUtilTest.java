@@ -1,23 +0,0 @@
-package casetrack.app.commons.util;
-
-import static casetrack.app.testutil.Assert.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-
-import org.junit.jupiter.api.Test;
-
-public class FileUtilTest {
-
-    @Test
-    public void isValidPath() {
-        // valid path
-        assertTrue(FileUtil.isValidPath("valid/file/path"));
-
-        // invalid path
-        assertFalse(FileUtil.isValidPath("a\0"));
-
-        // null path -> throws NullPointerException
-        assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
-    }
-
-}
@@ -1,5 +1,6 @@
 package casetrack.app;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.LogsCenter;
@@ -20,11 +21,17 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * With the {@value HeadlessApp#HEADLESS_OPTION} option, the application runs on the command line without JavaFX
+ * instead. See {@link HeadlessApp}.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_OPTION)) {
+            System.exit(HeadlessApp.launch(args));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -0,0 +1,195 @@
+package casetrack.app;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import casetrack.app.api.ApiServer;
+import casetrack.app.commons.core.Config;
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.core.StartupTimings;
+import casetrack.app.commons.core.Version;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.StringUtil;
+import casetrack.app.logic.Logic;
+import casetrack.app.logic.LogicManager;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.util.SampleDataUtil;
+import casetrack.app.storage.AddressBookStorage;
+import casetrack.app.storage.JsonUserPrefsStorage;
+import casetrack.app.storage.Storage;
+import casetrack.app.storage.StorageManager;
+import casetrack.app.storage.UserPrefsStorage;
+import casetrack.app.storage.WriteBehindStorage;
+import casetrack.app.ui.Ui;
+import casetrack.app.ui.UiManager;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+/**
+ * Runs the application.
+ */
+public class MainApp extends Application {
+
+    public static final Version VERSION = new Version(1, 5, 0, true);
+
+    public static final String MESSAGE_LOADING = "Loading patient data from %s ...";
+    public static final String MESSAGE_LOADED = "Loaded %d patients.";
+    public static final String MESSAGE_LOADING_FAILED = "Patient data in %s could not be loaded. "
+            + "Starting with an empty address book.";
+
+    private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+
+    protected Ui ui;
+    protected Logic logic;
+    protected Storage storage;
+    protected Model model;
+    protected Config config;
+
+    private Integer apiPort;
+    private ApiServer apiServer;
+
+    private final StartupTimings startupTimings = StartupTimings.getInstance();
+    private long startupStart;
+
+    /**
+     * Prepares everything needed to show the main window. The address book itself is only loaded by
+     * {@link #start(Stage)}, on a background thread, so that the window is shown without waiting for it.
+     */
+    @Override
+    public void init() throws Exception {
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        super.init();
+        startupStart = System.nanoTime();
+
+        long phaseStart = System.nanoTime();
+        AppParameters appParameters = AppParameters.parse(getParameters().getNamed());
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+        apiPort = appParameters.getApiPort();
+        startupTimings.record("config", phaseStart);
+
+        phaseStart = System.nanoTime();
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        startupTimings.record("preferences", phaseStart);
+
+        AddressBookStorage addressBookStorage =
+                AppInitializer.initAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // Starts empty, the address book is installed by loadAddressBook() once it has been read
+        model = new ModelManager(new AddressBook(), userPrefs);
+
+        logic = new LogicManager(model, storage);
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Reads the address book from {@code storage} and installs it in the model on the JavaFX application thread.
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private void loadAddressBook() {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        long phaseStart = System.nanoTime();
+
+        ReadOnlyAddressBook initialData;
+        String message;
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            message = String.format(MESSAGE_LOADED, initialData.getPersonList().size());
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+            message = String.format(MESSAGE_LOADING_FAILED, storage.getAddressBookFilePath());
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while loading " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+            initialData = new AddressBook();
+            message = String.format(MESSAGE_LOADING_FAILED, storage.getAddressBookFilePath());
+        }
+        startupTimings.record("address book read", phaseStart);
+
+        ReadOnlyAddressBook loadedData = initialData;
+        String loadedMessage = message;
+        Platform.runLater(() -> {
+            long installStart = System.nanoTime();
+            model.loadAddressBook(loadedData);
+            startupTimings.record("model", installStart);
+            ui.finishLoading(loadedMessage);
+            startupTimings.record("ready", startupStart);
+            startApiServer();
+        });
+    }
+
+    /**
+     * Starts serving the API if a port was given, with a new token written next to the data. Commands from the API are
+     * executed on the JavaFX application thread, like the commands entered by the user.
+     */
+    private void startApiServer() {
+        if (apiPort == null) {
+            return;
+        }
+        String token = ApiServer.generateToken();
+        try {
+            ApiServer.writeTokenFile(ApiServer.getTokenFile(storage.getAddressBookFilePath()), token);
+            apiServer = new ApiServer(logic, Platform::runLater, apiPort, token);
+            apiServer.start();
+        } catch (IOException e) {
+            logger.warning("Could not serve the API on port " + apiPort + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Shows the main window, and then loads the address book on a background thread. Commands are disabled until
+     * the address book has been installed. The code paths of the first commands are warmed up on another background
+     * thread in the meantime.
+     */
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting AddressBook " + MainApp.VERSION);
+        ui.start(primaryStage);
+        ui.showLoadingProgress(String.format(MESSAGE_LOADING, storage.getAddressBookFilePath()));
+
+        Thread loader = new Thread(this::loadAddressBook, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+
+        // Yields to the loader, as the address book is needed before any command can be entered
+        Thread warmup = new Thread(new Warmup(startupTimings), "warm-up");
+        warmup.setDaemon(true);
+        warmup.setPriority(Thread.MIN_PRIORITY);
+        warmup.start();
+    }
+
+    @Override
+    public void stop() {
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
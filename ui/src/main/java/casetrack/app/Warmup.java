@@ -0,0 +1,89 @@
+package casetrack.app;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.core.StartupTimings;
+import casetrack.app.commons.util.StringUtil;
+import casetrack.app.logic.parser.AddressBookParser;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.PersonAttribute;
+import casetrack.app.model.util.SampleDataUtil;
+import casetrack.app.ui.DetailCard;
+import casetrack.app.ui.DetailListPanel;
+import casetrack.app.ui.PersonCard;
+
+/**
+ * Loads and runs the code paths of the first commands during startup, so that the first command entered does not
+ * pay for loading the classes of the parsers and the value objects, the first runs of the hand-written validators
+ * of the value objects, and loading the FXML of the list cards and the detail panel.
+ * <p>
+ * The warm-up only parses commands and builds UI parts that are thrown away, so it does not change any state and
+ * can run on a background thread while the address book is loaded. The UI parts are never attached to a scene.
+ */
+class Warmup implements Runnable {
+
+    /** Commands that are parsed, but not executed, to warm up the parser and the validators they use. */
+    static final List<String> SAMPLE_COMMANDS = List.of(
+            "add n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29, #06-40 i/3000"
+                    + " m/Asthma t/friends",
+            "edit patient 1 n/Bernice Yu p/99272758 e/berniceyu@example.com i/4500.50 m/Diabetes t/colleagues",
+            "edit note 1 1 t/Follow-up in 2 weeks",
+            "note 1 t/Follow-up in 2 weeks about housing support",
+            "delete patient 1",
+            "delete note 1 1",
+            "search name Alex Bernice",
+            "search number 87438807",
+            "search email alexyeoh@example.com",
+            "search tag friends",
+            "view 1",
+            "list");
+
+    private static final Logger logger = LogsCenter.getLogger(Warmup.class);
+
+    private final StartupTimings startupTimings;
+
+    /**
+     * Creates a {@code Warmup} that records how long it took in {@code startupTimings}.
+     */
+    Warmup(StartupTimings startupTimings) {
+        this.startupTimings = startupTimings;
+    }
+
+    /**
+     * Warms up the parser and the UI parts. Failures are only logged, as they do not affect the application.
+     */
+    @Override
+    public void run() {
+        long phaseStart = System.nanoTime();
+        try {
+            warmUpParser();
+            warmUpUiParts();
+        } catch (ParseException | RuntimeException e) {
+            logger.warning("Warm-up failed: " + StringUtil.getDetails(e));
+        }
+        startupTimings.record("warm-up", phaseStart);
+    }
+
+    /**
+     * Parses every command in {@link #SAMPLE_COMMANDS}.
+     */
+    void warmUpParser() throws ParseException {
+        AddressBookParser parser = new AddressBookParser();
+        for (String command : SAMPLE_COMMANDS) {
+            parser.parseCommand(command);
+        }
+    }
+
+    /**
+     * Builds the UI parts that are created for the first persons shown, which loads their FXML.
+     */
+    private void warmUpUiParts() {
+        Person person = SampleDataUtil.getSamplePersons()[0];
+        new PersonCard(person, 1);
+        new DetailListPanel().showDetails(person);
+        new DetailCard(new PersonAttribute("Name", person.getName().fullName), 1);
+    }
+}
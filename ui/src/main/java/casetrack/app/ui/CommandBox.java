@@ -31,6 +31,16 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
     }
 
+    /**
+     * Enables or disables the entering of commands.
+     */
+    public void setEnabled(boolean isEnabled) {
+        commandTextField.setDisable(!isEnabled);
+        if (isEnabled) {
+            commandTextField.requestFocus();
+        }
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
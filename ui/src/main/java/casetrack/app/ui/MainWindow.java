@@ -11,6 +11,7 @@ import casetrack.app.logic.commands.DetailPanelInstruction;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.Person;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -39,6 +40,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private DetailListPanel detailListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
 
     @FXML
@@ -141,14 +143,31 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Disables commands and shows {@code message} while the address book is being loaded.
+     */
+    void showLoadingProgress(String message) {
+        commandBox.setEnabled(false);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
+    /**
+     * Enables commands and shows {@code message} once the address book has been loaded.
+     */
+    void finishLoading(String message) {
+        resultDisplay.setFeedbackToUser(message);
+        commandBox.setEnabled(true);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -0,0 +1,25 @@
+package casetrack.app.ui;
+
+import javafx.stage.Stage;
+
+/**
+ * API of UI component
+ */
+public interface Ui {
+
+    /** Starts the UI (and the App).  */
+    void start(Stage primaryStage);
+
+    /**
+     * Disables commands and shows {@code message} while the address book is being loaded.
+     * Must be called on the JavaFX application thread.
+     */
+    void showLoadingProgress(String message);
+
+    /**
+     * Enables commands and shows {@code message} once the address book has been loaded.
+     * Must be called on the JavaFX application thread.
+     */
+    void finishLoading(String message);
+
+}
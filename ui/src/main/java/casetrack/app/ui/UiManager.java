@@ -1,12 +1,16 @@
 package casetrack.app.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.logging.Logger;
 
 import casetrack.app.MainApp;
 import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.core.StartupTimings;
 import casetrack.app.commons.util.StringUtil;
 import casetrack.app.logic.Logic;
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
@@ -40,9 +44,12 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
+            long uiStart = System.nanoTime();
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            StartupTimings.getInstance().record("ui", uiStart);
+            recordFirstFrame(primaryStage.getScene(), uiStart);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,7 +57,46 @@ public class UiManager implements Ui {
         }
     }
 
-    private Image getImage(String imagePath) {
+    @Override
+    public void showLoadingProgress(String message) {
+        if (mainWindow != null) {
+            mainWindow.showLoadingProgress(message);
+        }
+    }
+
+    @Override
+    public void finishLoading(String message) {
+        if (mainWindow != null) {
+            mainWindow.finishLoading(message);
+        }
+    }
+
+    /**
+     * Records the time from {@code uiStart} until {@code scene} is first laid out for rendering.
+     */
+    private static void recordFirstFrame(Scene scene, long uiStart) {
+        Runnable listener = new Runnable() {
+            private boolean isRecorded;
+
+            @Override
+            public void run() {
+                if (isRecorded) {
+                    return;
+                }
+                isRecorded = true;
+                StartupTimings.getInstance().record("first frame", uiStart);
+                // listeners cannot be removed while the pulse is notifying them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        };
+        scene.addPostLayoutPulseListener(listener);
+    }
+
+    /**
+     * Gets an {@code Image} from the specified path.
+     */
+    static Image getImage(String imagePath) {
+        requireNonNull(imagePath);
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
 
@@ -0,0 +1,16 @@
+package casetrack.app;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.commons.core.StartupTimings;
+
+public class WarmupTest {
+
+    @Test
+    public void warmUpParser_sampleCommands_allValid() {
+        // an invalid sample command would only warm up the error path
+        assertDoesNotThrow(new Warmup(new StartupTimings())::warmUpParser);
+    }
+}
@@ -0,0 +1,19 @@
+package casetrack.app.ui;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.Test;
+
+public class UiManagerTest {
+
+    @Test
+    public void getImage_exitingImage() {
+        assertNotNull(UiManager.getImage("/images/address_book_32.png"));
+    }
+
+    @Test
+    public void getImage_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> UiManager.getImage(null));
+    }
+}